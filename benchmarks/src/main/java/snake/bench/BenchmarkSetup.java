@@ -0,0 +1,61 @@
+package snake.bench;
+
+import snake.headless.HeadlessEngine;
+import snake.model.GameModel;
+
+/**
+ * Utilidades para preparar el estado de los benchmarks.
+ *
+ * GameConfig es un Singleton que lee sus propiedades del sistema en el primer acceso.
+ * JMH ejecuta cada combinación de parámetros en un proceso propio, así que basta con
+ * fijar las propiedades en el @Setup antes de crear cualquier objeto del juego.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+final class BenchmarkSetup {
+
+    private BenchmarkSetup() {
+    }
+
+    /**
+     * Calcula la longitud de serpiente para ocupar una fracción del tablero.
+     *
+     * @param gridSize lado de la cuadrícula
+     * @param fill fracción del tablero a ocupar (0..1)
+     * @return la longitud de la serpiente
+     */
+    static int snakeLength(int gridSize, double fill) {
+        return Math.max(3, (int) (gridSize * gridSize * fill));
+    }
+
+    /**
+     * Fija las propiedades de GameConfig para este proceso.
+     *
+     * @param gridSize lado de la cuadrícula
+     * @param snakeLength longitud inicial de la serpiente
+     * @param body implementación del cuerpo ("COMPOSITE" o "RING_BUFFER")
+     */
+    static void configure(int gridSize, int snakeLength, String body) {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("snake.grid.width", Integer.toString(gridSize));
+        System.setProperty("snake.grid.height", Integer.toString(gridSize));
+        System.setProperty("snake.initialLength", Integer.toString(snakeLength));
+        System.setProperty("snake.body", body);
+    }
+
+    /**
+     * Crea un modelo cuya serpiente ya está desplegada sobre el ciclo hamiltoniano.
+     * La serpiente empieza apilada en una celda con la longitud inicial configurada
+     * y se despliega en tantos ticks como segmentos tiene.
+     *
+     * @param bot el bot que recorre el ciclo
+     * @return el modelo preparado
+     */
+    static GameModel unrolledModel(HamiltonianInputSource bot) {
+        GameModel model = new GameModel(42L);
+        HeadlessEngine engine = new HeadlessEngine(model, bot);
+        engine.runUntilGameOver(model.getSnake().getLength());
+        return model;
+    }
+}
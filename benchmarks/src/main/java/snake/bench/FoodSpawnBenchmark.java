@@ -0,0 +1,89 @@
+package snake.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import snake.model.grid.FreeCellIndex;
+import snake.model.grid.OccupancyGrid;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara dos formas de elegir la celda de la comida con el tablero casi lleno:
+ * el índice de celdas libres que usa GameModel.spawnFood() y el muestreo por
+ * rechazo original, que sortea celdas hasta encontrar una libre.
+ *
+ * Con pocas celdas libres el muestreo por rechazo necesita en promedio
+ * {@code celdas / libres} intentos, mientras que el índice responde en O(1).
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FoodSpawnBenchmark {
+
+    @Param({"20", "64", "256"})
+    public int gridSize;
+
+    @Param({"0.1", "0.5", "0.95", "0.999"})
+    public double fill;
+
+    private OccupancyGrid occupancy;
+    private FreeCellIndex freeCells;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        int cells = gridSize * gridSize;
+        int occupied = Math.min(cells - 1, (int) (cells * fill));
+        occupancy = new OccupancyGrid(gridSize, gridSize);
+        freeCells = new FreeCellIndex(gridSize, gridSize);
+        freeCells.reset();
+
+        // Ocupa celdas al azar con un barajado de Fisher-Yates.
+        SplittableRandom shuffle = new SplittableRandom(11);
+        int[] order = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < occupied; i++) {
+            int j = i + shuffle.nextInt(cells - i);
+            int cell = order[j];
+            order[j] = order[i];
+            order[i] = cell;
+            occupancy.occupy(cell % gridSize, cell / gridSize);
+            freeCells.remove(cell % gridSize, cell / gridSize);
+        }
+        random = new SplittableRandom(13);
+    }
+
+    @Benchmark
+    public int freeCellIndex() {
+        return freeCells.randomFreeCell(random);
+    }
+
+    @Benchmark
+    public int rejectionSampling() {
+        int x;
+        int y;
+        do {
+            x = random.nextInt(gridSize);
+            y = random.nextInt(gridSize);
+        } while (occupancy.isOccupied(x, y));
+        return y * gridSize + x;
+    }
+}
@@ -0,0 +1,76 @@
+package snake.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import snake.headless.HeadlessEngine;
+import snake.model.GameModel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide GameModel.update() con serpientes que ocupan distintas fracciones del tablero.
+ *
+ * Con {@code fill = 0.95} se reproduce el final de partida con el tablero casi lleno,
+ * donde el cuerpo por lista y la generación de comida por rechazo se degradan.
+ *
+ * Cada operación es una vuelta completa al ciclo hamiltoniano ({@code gridSize²} ticks),
+ * en la que la serpiente come y crece como en una partida real. El modelo se
+ * reconstruye antes de cada iteración para que la ocupación no se desvíe del
+ * parámetro; para obtener el tiempo por tick, divida entre {@code gridSize²}.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class GameModelBenchmark {
+
+    @Param({"20", "64", "128"})
+    public int gridSize;
+
+    @Param({"0.05", "0.5", "0.95"})
+    public double fill;
+
+    @Param({"RING_BUFFER", "COMPOSITE"})
+    public String body;
+
+    private HamiltonianInputSource bot;
+    private GameModel model;
+    private HeadlessEngine engine;
+
+    @Setup(Level.Trial)
+    public void configure() {
+        BenchmarkSetup.configure(gridSize, BenchmarkSetup.snakeLength(gridSize, fill), body);
+        bot = new HamiltonianInputSource(gridSize, gridSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        model = BenchmarkSetup.unrolledModel(bot);
+        engine = new HeadlessEngine(model, bot);
+    }
+
+    /**
+     * Una vuelta de ticks completos: dirección del bot, movimiento, colisiones,
+     * comida y observadores.
+     */
+    @Benchmark
+    public long lap() {
+        engine.runUntilGameOver((long) gridSize * gridSize);
+        return model.getTickCount();
+    }
+}
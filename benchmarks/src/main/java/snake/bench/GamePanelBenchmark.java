@@ -0,0 +1,70 @@
+package snake.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import snake.config.GameConfig;
+import snake.model.GameModel;
+import snake.view.GamePanel;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el pintado completo de GamePanel sobre una imagen en memoria, sin pantalla.
+ * El modelo queda fijo durante la medición: se mide solo el coste de dibujar.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GamePanelBenchmark {
+
+    @Param({"20", "64"})
+    public int gridSize;
+
+    @Param({"0.05", "0.5", "0.95"})
+    public double fill;
+
+    private GamePanel panel;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSetup.configure(gridSize, BenchmarkSetup.snakeLength(gridSize, fill), "RING_BUFFER");
+        GameModel model = BenchmarkSetup.unrolledModel(new HamiltonianInputSource(gridSize, gridSize));
+
+        GameConfig config = GameConfig.getInstance();
+        panel = new GamePanel(model);
+        panel.setSize(config.getPanelWidth(), config.getPanelHeight());
+        image = new BufferedImage(config.getPanelWidth(), config.getPanelHeight(), BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        panel.paint(graphics);
+        return image;
+    }
+}
@@ -0,0 +1,61 @@
+package snake.bench;
+
+import snake.headless.InputSource;
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.Position;
+
+/**
+ * Bot que recorre un ciclo hamiltoniano de la cuadrícula.
+ *
+ * El ciclo sube por la columna 0 y recorre las demás columnas en zigzag por filas,
+ * así que la serpiente visita todas las celdas sin chocar nunca y puede llenar el
+ * tablero completo. Requiere una altura par y al menos dos columnas.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class HamiltonianInputSource implements InputSource {
+    private final int width;
+    private final int height;
+
+    /**
+     * Crea un bot para una cuadrícula del tamaño dado.
+     *
+     * @param width ancho de la cuadrícula en celdas
+     * @param height altura de la cuadrícula en celdas (par)
+     */
+    public HamiltonianInputSource(int width, int height) {
+        if (height % 2 != 0 || width < 2) {
+            throw new IllegalArgumentException("El ciclo requiere altura par y ancho >= 2: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public Direction nextDirection(GameModel model, long tick) {
+        Position head = model.getSnake().getHead().getPosition();
+        return directionAt(head.getX(), head.getY());
+    }
+
+    /**
+     * Obtiene la dirección del ciclo en una celda.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return la dirección hacia la siguiente celda del ciclo
+     */
+    public Direction directionAt(int x, int y) {
+        if (x == 0) {
+            return y == 0 ? Direction.RIGHT : Direction.UP;
+        }
+        if (y % 2 == 0) {
+            return x < width - 1 ? Direction.RIGHT : Direction.DOWN;
+        }
+        if (x > 1) {
+            return Direction.LEFT;
+        }
+        return y == height - 1 ? Direction.LEFT : Direction.DOWN;
+    }
+}
@@ -0,0 +1,115 @@
+package snake.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import snake.model.Position;
+import snake.model.composite.RingBufferSnakeBody;
+import snake.model.composite.SnakeBody;
+import snake.model.composite.SnakeBodyComposite;
+import snake.model.grid.PositionCache;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las operaciones de SnakeBody (move, grow, hasSelfCollision, occupies)
+ * para ambas implementaciones y distintas longitudes de serpiente.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeBodyBenchmark {
+    private static final int QUERIES = 1024;
+    private static final int GROW_BATCH = 1000;
+
+    @Param({"32", "128"})
+    public int gridSize;
+
+    @Param({"0.05", "0.5", "0.95"})
+    public double fill;
+
+    @Param({"RING_BUFFER", "COMPOSITE"})
+    public String body;
+
+    private HamiltonianInputSource cycle;
+    private PositionCache positionCache;
+    private SnakeBody snake;
+    private Position[] queries;
+    private int queryIndex;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cycle = new HamiltonianInputSource(gridSize, gridSize);
+        positionCache = new PositionCache(gridSize, gridSize);
+        Position start = positionCache.get(gridSize / 2, gridSize / 2);
+        snake = body.equals("COMPOSITE")
+                ? new SnakeBodyComposite(start)
+                : new RingBufferSnakeBody(start, positionCache);
+
+        int length = BenchmarkSetup.snakeLength(gridSize, fill);
+        for (int i = 1; i < length; i++) {
+            snake.grow();
+        }
+        for (int i = 1; i < length; i++) {
+            moveAlongCycle();
+        }
+
+        SplittableRandom random = new SplittableRandom(7);
+        queries = new Position[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = positionCache.get(random.nextInt(gridSize), random.nextInt(gridSize));
+        }
+    }
+
+    private void moveAlongCycle() {
+        Position head = snake.getHead().getPosition();
+        snake.move(cycle.directionAt(head.getX(), head.getY()));
+    }
+
+    @Benchmark
+    public Position move() {
+        moveAlongCycle();
+        return snake.getHead().getPosition();
+    }
+
+    /**
+     * Crece y avanza, como al comer. Se mide en lotes de {@value #GROW_BATCH}
+     * operaciones por iteración para que la serpiente no se alargue sin límite.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = GROW_BATCH)
+    @Measurement(iterations = 20, batchSize = GROW_BATCH)
+    public int growAndMove() {
+        snake.grow();
+        moveAlongCycle();
+        return snake.getLength();
+    }
+
+    @Benchmark
+    public boolean hasSelfCollision() {
+        return snake.hasSelfCollision();
+    }
+
+    @Benchmark
+    public boolean occupies() {
+        queryIndex = (queryIndex + 1) & (QUERIES - 1);
+        return snake.occupies(queries[queryIndex]);
+    }
+}
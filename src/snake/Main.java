@@ -40,7 +40,7 @@ public class Main {
             System.out.println("Controles:");
             System.out.println("  Flechas / WASD: Mover serpiente");
             System.out.println("  ESPACIO: Pausar/Reanudar");
-            System.out.println("  1/2/3: Cambiar velocidad (Lento/Normal/Rápido)");
+            System.out.println("  1/2/3/4: Cambiar velocidad (Lento/Normal/Rápido/Turbo)");
             System.out.println("  ENTER: Reiniciar después de fin del juego");
         });
     }
@@ -0,0 +1,465 @@
+package snake.arena;
+
+import snake.config.GameConfig;
+import snake.model.DeathCause;
+import snake.model.Direction;
+import snake.model.Position;
+import snake.model.factory.NormalFoodFactory;
+import snake.model.grid.OccupancyGrid;
+
+import java.util.SplittableRandom;
+
+/**
+ * Arena donde cientos o miles de serpientes comparten un mismo tablero.
+ * Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * Como BatchSnakeEnvironment, las serpientes viven en arreglos planos (estructura de
+ * arreglos): cada cuerpo es un buffer circular de celdas ({@code y * width + x}) y el
+ * crecimiento pendiente es un contador. Todas comparten un mapa de ocupación de los
+ * cuerpos y otro de la comida.
+ *
+ * Los movimientos son simultáneos y cada tick se resuelve en dos fases:
+ * <ol>
+ *   <li>Intención: cada serpiente aplica su acción y calcula la celda a la que quiere
+ *       mover la cabeza. Las celdas reclamadas por las cabezas y las que liberan las
+ *       colas (las de las serpientes que no crecen) se anotan en dos tablas hash
+ *       espaciales ({@link CellTable}) del tamaño del número de serpientes.</li>
+ *   <li>Resolución: una serpiente muere si su celda destino está fuera del tablero
+ *       (WALL), si la reclama más de una cabeza (HEAD_ON: mueren todas), o si está
+ *       ocupada por un cuerpo cuya cola no se libera en este tick (SELF u
+ *       OTHER_SNAKE). Seguir la propia cola, o la de otra, está permitido. Las
+ *       supervivientes mueven la cola y la cabeza, y comen si la celda tiene comida;
+ *       una comida disputada nunca se come, porque sus aspirantes chocan de frente.</li>
+ * </ol>
+ * El resultado no depende del orden de las serpientes. Las que mueren liberan su
+ * cuerpo y reaparecen en una celda libre al azar con la longitud inicial pendiente.
+ *
+ * Cada tick cuesta O(serpientes): todas las consultas son O(1) en los mapas de
+ * ocupación o en las tablas hash, nunca recorren cuerpos. Solo una muerte recorre el
+ * cuerpo de la serpiente que muere, una vez, para liberarlo. Un tick no reserva
+ * memoria salvo cuando un cuerpo crece por encima de su capacidad y se duplica.
+ *
+ * Las acciones son el ordinal de {@link Direction} (0..3) o {@link #NO_ACTION}.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class Arena {
+    /**
+     * Acción que mantiene la dirección actual.
+     */
+    public static final int NO_ACTION = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int MAX_SPAWN_ATTEMPTS = 64;
+    private static final int INITIAL_BODY_CAPACITY = 16;
+
+    private final int numSnakes;
+    private final int width;
+    private final int height;
+    private final int initialLength;
+    private final int foodTarget;
+    private final int foodPoints;
+    private final SplittableRandom random;
+
+    private final OccupancyGrid bodies;
+    private final OccupancyGrid food;
+    private final CellTable headClaims;
+    private final CellTable releasedTails;
+
+    private final int[][] body;
+    private final int[] headIndex;
+    private final int[] length;
+    private final int[] pendingGrowth;
+    private final int[] direction;
+    private final int[] score;
+    private final boolean[] active;
+    private final int[] target;
+    private final DeathCause[] fate;
+
+    private final long[] deaths;
+    private int foodOnBoard;
+    private long meals;
+    private long tick;
+
+    /**
+     * Crea una arena con la longitud inicial de GameConfig y una comida por serpiente.
+     *
+     * @param numSnakes número de serpientes
+     * @param width ancho del tablero en celdas
+     * @param height altura del tablero en celdas
+     * @param seed semilla de las posiciones de aparición y de la comida
+     */
+    public Arena(int numSnakes, int width, int height, long seed) {
+        this(numSnakes, width, height, numSnakes, seed);
+    }
+
+    /**
+     * Crea una arena.
+     *
+     * @param numSnakes número de serpientes
+     * @param width ancho del tablero en celdas
+     * @param height altura del tablero en celdas
+     * @param foodTarget comida que se mantiene en el tablero
+     * @param seed semilla de las posiciones de aparición y de la comida
+     */
+    public Arena(int numSnakes, int width, int height, int foodTarget, long seed) {
+        if (numSnakes <= 0 || width <= 0 || height <= 0 || foodTarget < 0
+                || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Parámetros inválidos: " + numSnakes + " serpientes, "
+                    + width + "x" + height + ", " + foodTarget + " comidas");
+        }
+        this.numSnakes = numSnakes;
+        this.width = width;
+        this.height = height;
+        this.initialLength = GameConfig.getInstance().getInitialSnakeLength();
+        this.foodTarget = foodTarget;
+        this.foodPoints = new NormalFoodFactory().createFood(new Position(0, 0)).getPoints();
+        this.random = new SplittableRandom(seed);
+
+        this.bodies = new OccupancyGrid(width, height);
+        this.food = new OccupancyGrid(width, height);
+        this.headClaims = new CellTable(numSnakes);
+        this.releasedTails = new CellTable(numSnakes);
+
+        this.body = new int[numSnakes][];
+        this.headIndex = new int[numSnakes];
+        this.length = new int[numSnakes];
+        this.pendingGrowth = new int[numSnakes];
+        this.direction = new int[numSnakes];
+        this.score = new int[numSnakes];
+        this.active = new boolean[numSnakes];
+        this.target = new int[numSnakes];
+        this.fate = new DeathCause[numSnakes];
+        this.deaths = new long[DeathCause.values().length];
+
+        for (int snake = 0; snake < numSnakes; snake++) {
+            body[snake] = new int[INITIAL_BODY_CAPACITY];
+            fate[snake] = DeathCause.NONE;
+            spawnSnake(snake);
+        }
+        refillFood();
+    }
+
+    /**
+     * Avanza un tick en todas las serpientes.
+     *
+     * @param actions una acción por serpiente: ordinal de Direction o NO_ACTION
+     */
+    public void step(int[] actions) {
+        if (actions.length < numSnakes) {
+            throw new IllegalArgumentException("Se esperaban " + numSnakes + " acciones, hay " + actions.length);
+        }
+        tick++;
+        headClaims.clear();
+        releasedTails.clear();
+
+        // Fase 1: intención.
+        for (int snake = 0; snake < numSnakes; snake++) {
+            fate[snake] = DeathCause.NONE;
+            if (active[snake]) {
+                planMove(snake, actions[snake]);
+            }
+        }
+
+        // Fase 2: resolución. Solo lee las tablas de la fase 1 y los mapas sin modificar.
+        for (int snake = 0; snake < numSnakes; snake++) {
+            if (active[snake] && fate[snake] == DeathCause.NONE) {
+                fate[snake] = resolve(snake);
+            }
+        }
+
+        // Aplicación: primero se liberan las colas y los cuerpos de las muertas, después
+        // se ocupan las cabezas, que pueden entrar en celdas recién liberadas.
+        for (int snake = 0; snake < numSnakes; snake++) {
+            if (!active[snake]) {
+                continue;
+            }
+            if (fate[snake] != DeathCause.NONE) {
+                kill(snake);
+            } else if (pendingGrowth[snake] > 0) {
+                pendingGrowth[snake]--;
+            } else {
+                int tail = tailCell(snake);
+                bodies.release(tail % width, tail / width);
+                length[snake]--;
+            }
+        }
+        for (int snake = 0; snake < numSnakes; snake++) {
+            if (active[snake]) {
+                advanceHead(snake);
+            }
+        }
+        // Las reapariciones van al final, cuando ya se conocen todas las celdas ocupadas.
+        for (int snake = 0; snake < numSnakes; snake++) {
+            if (!active[snake]) {
+                spawnSnake(snake);
+            }
+        }
+        refillFood();
+    }
+
+    /**
+     * Aplica la acción y anota la celda destino y, si la serpiente no crece, la celda
+     * que libera su cola.
+     */
+    private void planMove(int snake, int action) {
+        // Con un único segmento no hay cuello con el que chocar, así que se puede girar en U.
+        if (action >= 0 && (length[snake] == 1 || !DIRECTIONS[action].isOpposite(DIRECTIONS[direction[snake]]))) {
+            direction[snake] = action;
+        }
+        Direction dir = DIRECTIONS[direction[snake]];
+        int head = body[snake][headIndex[snake]];
+        int x = head % width + dir.getDeltaX();
+        int y = head / width + dir.getDeltaY();
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            fate[snake] = DeathCause.WALL;
+            return;
+        }
+        target[snake] = y * width + x;
+        headClaims.increment(target[snake]);
+        if (pendingGrowth[snake] == 0) {
+            releasedTails.increment(tailCell(snake));
+        }
+    }
+
+    /**
+     * Decide si la serpiente sobrevive a su movimiento.
+     */
+    private DeathCause resolve(int snake) {
+        int cell = target[snake];
+        if (headClaims.get(cell) > 1) {
+            return DeathCause.HEAD_ON;
+        }
+        if (bodies.isOccupied(cell % width, cell / width) && releasedTails.get(cell) == 0) {
+            // Solo en el choque se averigua de quién es el cuerpo.
+            return occupiesOwnBody(snake, cell) ? DeathCause.SELF : DeathCause.OTHER_SNAKE;
+        }
+        return DeathCause.NONE;
+    }
+
+    /**
+     * Añade la cabeza en la celda destino y come si hay comida.
+     */
+    private void advanceHead(int snake) {
+        int cell = target[snake];
+        int[] segments = body[snake];
+        if (length[snake] == segments.length) {
+            segments = growCapacity(snake);
+        }
+        headIndex[snake] = headIndex[snake] == 0 ? segments.length - 1 : headIndex[snake] - 1;
+        segments[headIndex[snake]] = cell;
+        length[snake]++;
+        int x = cell % width;
+        int y = cell / width;
+        bodies.occupy(x, y);
+        if (food.isOccupied(x, y)) {
+            food.release(x, y);
+            foodOnBoard--;
+            meals++;
+            score[snake] += foodPoints;
+            pendingGrowth[snake]++;
+        }
+    }
+
+    /**
+     * Libera el cuerpo de una serpiente muerta y cuenta la muerte.
+     */
+    private void kill(int snake) {
+        int[] segments = body[snake];
+        for (int i = 0; i < length[snake]; i++) {
+            int cell = segments[(headIndex[snake] + i) % segments.length];
+            bodies.release(cell % width, cell / width);
+        }
+        deaths[fate[snake].ordinal()]++;
+        active[snake] = false;
+    }
+
+    /**
+     * Hace aparecer una serpiente de un segmento, con la longitud inicial pendiente, en
+     * una celda libre al azar. Si no encuentra sitio, lo vuelve a intentar el siguiente tick.
+     */
+    private void spawnSnake(int snake) {
+        int cell = randomFreeCell();
+        if (cell < 0) {
+            return;
+        }
+        headIndex[snake] = 0;
+        body[snake][0] = cell;
+        length[snake] = 1;
+        pendingGrowth[snake] = Math.max(0, initialLength - 1);
+        direction[snake] = random.nextInt(DIRECTIONS.length);
+        score[snake] = 0;
+        active[snake] = true;
+        bodies.occupy(cell % width, cell / width);
+    }
+
+    /**
+     * Repone la comida comida en el tick, en celdas libres al azar.
+     */
+    private void refillFood() {
+        while (foodOnBoard < foodTarget) {
+            int cell = randomFreeCell();
+            if (cell < 0) {
+                return;
+            }
+            food.occupy(cell % width, cell / width);
+            foodOnBoard++;
+        }
+    }
+
+    /**
+     * Elige por muestreo una celda sin cuerpo ni comida, o devuelve -1 si no la encuentra.
+     */
+    private int randomFreeCell() {
+        for (int attempt = 0; attempt < MAX_SPAWN_ATTEMPTS; attempt++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            if (!bodies.isOccupied(x, y) && !food.isOccupied(x, y)) {
+                return y * width + x;
+            }
+        }
+        return -1;
+    }
+
+    private int tailCell(int snake) {
+        int[] segments = body[snake];
+        return segments[(headIndex[snake] + length[snake] - 1) % segments.length];
+    }
+
+    private boolean occupiesOwnBody(int snake, int cell) {
+        int[] segments = body[snake];
+        for (int i = 0; i < length[snake]; i++) {
+            if (segments[(headIndex[snake] + i) % segments.length] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Duplica la capacidad del buffer de una serpiente, dejando la cabeza en el índice 0.
+     */
+    private int[] growCapacity(int snake) {
+        int[] old = body[snake];
+        int[] segments = new int[old.length * 2];
+        for (int i = 0; i < length[snake]; i++) {
+            segments[i] = old[(headIndex[snake] + i) % old.length];
+        }
+        headIndex[snake] = 0;
+        body[snake] = segments;
+        return segments;
+    }
+
+    /**
+     * Verifica si una celda está libre: dentro del tablero y sin ningún cuerpo.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si una cabeza podría entrar sin chocar contra un cuerpo
+     */
+    public boolean isFree(int x, int y) {
+        return bodies.contains(x, y) && !bodies.isOccupied(x, y);
+    }
+
+    /**
+     * Verifica si hay comida en una celda.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si hay comida
+     */
+    public boolean hasFood(int x, int y) {
+        return food.isOccupied(x, y);
+    }
+
+    /**
+     * Indica si la serpiente está en el tablero. Una serpiente que murió y no encontró
+     * sitio para reaparecer queda inactiva hasta el siguiente tick.
+     *
+     * @param snake el índice de la serpiente
+     * @return true si está en el tablero
+     */
+    public boolean isActive(int snake) {
+        return active[snake];
+    }
+
+    public int getHeadX(int snake) {
+        return body[snake][headIndex[snake]] % width;
+    }
+
+    public int getHeadY(int snake) {
+        return body[snake][headIndex[snake]] / width;
+    }
+
+    public Direction getDirection(int snake) {
+        return DIRECTIONS[direction[snake]];
+    }
+
+    /**
+     * Obtiene la longitud de la serpiente, incluyendo el crecimiento pendiente.
+     *
+     * @param snake el índice de la serpiente
+     * @return la longitud de la serpiente
+     */
+    public int getLength(int snake) {
+        return length[snake] + pendingGrowth[snake];
+    }
+
+    public int getScore(int snake) {
+        return score[snake];
+    }
+
+    /**
+     * Obtiene cuántas serpientes han muerto por una causa desde que se creó la arena.
+     *
+     * @param cause la causa
+     * @return muertes por esa causa
+     */
+    public long getDeathCount(DeathCause cause) {
+        return deaths[cause.ordinal()];
+    }
+
+    /**
+     * Obtiene la causa por la que murió cada serpiente en el último tick, o NONE.
+     * El arreglo se reutiliza en cada llamada.
+     *
+     * @return causas de muerte por serpiente
+     */
+    public DeathCause[] getLastDeaths() {
+        return fate;
+    }
+
+    /**
+     * Obtiene el número de celdas ocupadas por cuerpos.
+     *
+     * @return celdas ocupadas
+     */
+    public int getOccupiedCells() {
+        return bodies.getOccupiedCount();
+    }
+
+    public int getFoodOnBoard() {
+        return foodOnBoard;
+    }
+
+    public long getMeals() {
+        return meals;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getNumSnakes() {
+        return numSnakes;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,61 @@
+package snake.arena;
+
+import snake.model.DeathCause;
+
+/**
+ * Punto de entrada para ejecutar una arena multijugador sin interfaz gráfica.
+ *
+ * Uso: {@code java -cp out snake.arena.ArenaMain [serpientes] [ancho] [alto] [ticks] [semilla]}
+ *
+ * Informa del tiempo medio por tick y por serpiente, que se mantiene constante al
+ * aumentar el número de serpientes o su longitud.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ArenaMain {
+    private static final int DEFAULT_SNAKES = 1000;
+    private static final int DEFAULT_SIZE = 1000;
+    private static final long DEFAULT_TICKS = 10_000;
+    private static final long DEFAULT_SEED = 42;
+
+    /**
+     * Punto de entrada de la arena.
+     *
+     * @param args serpientes, ancho, alto, ticks y semilla (opcionales)
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int snakes = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SNAKES;
+        int width = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SIZE;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SIZE;
+        long ticks = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_TICKS;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+
+        Arena arena = new Arena(snakes, width, height, seed);
+        WanderingArenaBot bot = new WanderingArenaBot(arena, seed + 1);
+
+        long start = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            arena.step(bot.nextActions(arena));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int maxLength = 0;
+        for (int snake = 0; snake < snakes; snake++) {
+            maxLength = Math.max(maxLength, arena.getLength(snake));
+        }
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.println("Arena: " + snakes + " serpientes en " + width + "x" + height + ", " + ticks + " ticks");
+        System.out.printf("Tiempo: %.3f s (%.0f ticks por segundo)%n", seconds, ticks / seconds);
+        System.out.printf("Coste: %.1f µs por tick, %.1f ns por serpiente y tick%n",
+                elapsed / 1_000.0 / ticks, (double) elapsed / ticks / snakes);
+        System.out.println("Comidas: " + arena.getMeals() + ", celdas ocupadas: " + arena.getOccupiedCells()
+                + ", longitud máxima: " + maxLength);
+        System.out.println("Muertes contra pared: " + arena.getDeathCount(DeathCause.WALL)
+                + ", contra sí misma: " + arena.getDeathCount(DeathCause.SELF)
+                + ", contra otra serpiente: " + arena.getDeathCount(DeathCause.OTHER_SNAKE)
+                + ", de frente: " + arena.getDeathCount(DeathCause.HEAD_ON));
+    }
+}
@@ -0,0 +1,94 @@
+package snake.arena;
+
+import java.util.Arrays;
+
+/**
+ * Tabla hash espacial de direccionamiento abierto: de celda ({@code y * width + x}) a
+ * un contador. Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * La arena la usa en cada tick para las celdas que reclaman las cabezas y las que
+ * liberan las colas. Su tamaño depende del número de serpientes y no del tablero, y
+ * vaciarla solo recorre las ranuras usadas, así que cada tick cuesta O(serpientes)
+ * aunque el tablero tenga millones de celdas. No reserva memoria después de crearse.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+final class CellTable {
+    private static final int EMPTY = -1;
+
+    private final int[] keys;
+    private final int[] counts;
+    private final int[] usedSlots;
+    private final int mask;
+    private final int shift;
+    private int used;
+
+    /**
+     * Crea una tabla vacía.
+     *
+     * @param maxEntries celdas distintas que puede contener a la vez
+     */
+    CellTable(int maxEntries) {
+        int capacity = Integer.highestOneBit(Math.max(2, maxEntries) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.counts = new int[capacity];
+        this.usedSlots = new int[maxEntries];
+        this.mask = capacity - 1;
+        this.shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Suma uno al contador de una celda.
+     *
+     * @param cell la celda
+     * @return el contador tras sumar
+     */
+    int increment(int cell) {
+        int slot = slotOf(cell);
+        if (keys[slot] == EMPTY) {
+            if (used == usedSlots.length) {
+                throw new IllegalStateException("Tabla de celdas llena: " + used);
+            }
+            keys[slot] = cell;
+            usedSlots[used++] = slot;
+        }
+        return ++counts[slot];
+    }
+
+    /**
+     * Obtiene el contador de una celda.
+     *
+     * @param cell la celda
+     * @return el contador, 0 si la celda no está en la tabla
+     */
+    int get(int cell) {
+        int slot = slotOf(cell);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    /**
+     * Vacía la tabla recorriendo solo las ranuras usadas.
+     */
+    void clear() {
+        for (int i = 0; i < used; i++) {
+            int slot = usedSlots[i];
+            keys[slot] = EMPTY;
+            counts[slot] = 0;
+        }
+        used = 0;
+    }
+
+    /**
+     * Busca la ranura de una celda o la primera vacía de su secuencia de sondeo lineal.
+     * La ranura inicial son los bits altos del hash multiplicativo, los mejor mezclados.
+     */
+    private int slotOf(int cell) {
+        int slot = (cell * 0x9E3779B9) >>> shift;
+        while (keys[slot] != EMPTY && keys[slot] != cell) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,77 @@
+package snake.arena;
+
+import snake.model.Direction;
+
+import java.util.SplittableRandom;
+
+/**
+ * Bot que mueve todas las serpientes de una arena, con O(1) por serpiente.
+ *
+ * Cada serpiente mira solo sus tres celdas vecinas: entra en una con comida si la
+ * hay, sigue recta si puede y de vez en cuando gira al azar hacia una libre. No mira
+ * las intenciones de las demás, así que los choques de frente ocurren de verdad y la
+ * arena tiene que resolverlos. No reserva memoria después de crearse.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class WanderingArenaBot {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final double TURN_CHANCE = 0.1;
+
+    private final SplittableRandom random;
+    private final int[] actions;
+
+    /**
+     * Crea el bot para una arena.
+     *
+     * @param arena la arena
+     * @param seed semilla de los giros al azar
+     */
+    public WanderingArenaBot(Arena arena, long seed) {
+        this.random = new SplittableRandom(seed);
+        this.actions = new int[arena.getNumSnakes()];
+    }
+
+    /**
+     * Decide la acción de cada serpiente para el siguiente tick.
+     * El arreglo se reutiliza en cada llamada.
+     *
+     * @param arena la arena, en el estado previo al tick
+     * @return una acción por serpiente
+     */
+    public int[] nextActions(Arena arena) {
+        for (int snake = 0; snake < actions.length; snake++) {
+            actions[snake] = arena.isActive(snake) ? chooseAction(arena, snake) : Arena.NO_ACTION;
+        }
+        return actions;
+    }
+
+    private int chooseAction(Arena arena, int snake) {
+        Direction current = arena.getDirection(snake);
+        int x = arena.getHeadX(snake);
+        int y = arena.getHeadY(snake);
+        int free = Arena.NO_ACTION;
+        boolean turn = random.nextDouble() < TURN_CHANCE;
+        // Empieza por una dirección al azar para no favorecer ningún giro.
+        int first = random.nextInt(DIRECTIONS.length);
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            Direction direction = DIRECTIONS[(first + i) % DIRECTIONS.length];
+            if (direction.isOpposite(current)) {
+                continue;
+            }
+            int nx = x + direction.getDeltaX();
+            int ny = y + direction.getDeltaY();
+            if (!arena.isFree(nx, ny)) {
+                continue;
+            }
+            if (arena.hasFood(nx, ny)) {
+                return direction.ordinal();
+            }
+            if (free == Arena.NO_ACTION || (direction == current) != turn) {
+                free = direction.ordinal();
+            }
+        }
+        return free;
+    }
+}
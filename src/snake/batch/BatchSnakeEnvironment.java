@@ -0,0 +1,385 @@
+package snake.batch;
+
+import snake.config.GameConfig;
+import snake.model.Direction;
+import snake.model.Position;
+import snake.model.factory.BonusFoodFactory;
+import snake.model.factory.NormalFoodFactory;
+
+/**
+ * Entorno que avanza muchas partidas independientes de Snake a la vez.
+ * Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * En lugar de un grafo de objetos por partida (GameModel, SnakeHead, SnakeSegment,
+ * Position, Food), todas las partidas viven en arreglos primitivos planos
+ * (estructura de arreglos): cabezas, cuerpos en buffers circulares, mapas de
+ * ocupación, comida, puntuaciones y generadores aleatorios. stepAll() aplica a cada
+ * partida las mismas reglas que GameModel.update() en un único bucle, y reinicia
+ * automáticamente las partidas que terminan.
+ *
+ * Diferencias de representación con GameModel:
+ * - El crecimiento pendiente se guarda como contador en lugar de segmentos duplicados
+ *   en la cola; getLength() suma ambos, igual que SnakeBody.getLength().
+ * - Cada partida usa su propio generador SplitMix64, así que las secuencias de
+ *   comida no coinciden con las de un GameModel con la misma semilla.
+ *
+ * Las acciones son el ordinal de {@link Direction} (0..3) o {@link #NO_ACTION}.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class BatchSnakeEnvironment {
+    /**
+     * Acción que mantiene la dirección actual.
+     */
+    public static final int NO_ACTION = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int numGames;
+    private final int width;
+    private final int height;
+    private final int cellCount;
+    private final int wordsPerGame;
+    private final int initialLength;
+    private final double bonusFoodChance;
+    private final int normalFoodPoints;
+    private final int bonusFoodPoints;
+
+    private final int[] body;
+    private final long[] occupancy;
+    private final int[] headIndex;
+    private final int[] length;
+    private final int[] pendingGrowth;
+    private final int[] direction;
+    private final int[] foodCell;
+    private final int[] foodPoints;
+    private final int[] score;
+    private final int[] episodeTicks;
+    private final long[] rngState;
+
+    private final int[] rewards;
+    private final boolean[] dones;
+    private final int[] finalScores;
+    private long episodesCompleted;
+
+    /**
+     * Crea un entorno con la cuadrícula y reglas de GameConfig.
+     *
+     * @param numGames número de partidas simultáneas
+     * @param seed semilla maestra; cada partida deriva la suya
+     */
+    public BatchSnakeEnvironment(int numGames, long seed) {
+        this(numGames, GameConfig.getInstance().getGridWidth(), GameConfig.getInstance().getGridHeight(), seed);
+    }
+
+    /**
+     * Crea un entorno con una cuadrícula del tamaño dado.
+     *
+     * @param numGames número de partidas simultáneas
+     * @param width ancho de la cuadrícula en celdas
+     * @param height altura de la cuadrícula en celdas
+     * @param seed semilla maestra; cada partida deriva la suya
+     */
+    public BatchSnakeEnvironment(int numGames, int width, int height, long seed) {
+        if (numGames <= 0 || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Parámetros inválidos: " + numGames + " partidas, " + width + "x" + height);
+        }
+        GameConfig config = GameConfig.getInstance();
+        this.numGames = numGames;
+        this.width = width;
+        this.height = height;
+        this.cellCount = width * height;
+        this.wordsPerGame = (cellCount + 63) >>> 6;
+        this.initialLength = config.getInitialSnakeLength();
+        this.bonusFoodChance = config.getBonusFoodChance();
+
+        Position origin = new Position(0, 0);
+        this.normalFoodPoints = new NormalFoodFactory().createFood(origin).getPoints();
+        this.bonusFoodPoints = new BonusFoodFactory().createFood(origin).getPoints();
+
+        this.body = new int[Math.multiplyExact(numGames, cellCount)];
+        this.occupancy = new long[Math.multiplyExact(numGames, wordsPerGame)];
+        this.headIndex = new int[numGames];
+        this.length = new int[numGames];
+        this.pendingGrowth = new int[numGames];
+        this.direction = new int[numGames];
+        this.foodCell = new int[numGames];
+        this.foodPoints = new int[numGames];
+        this.score = new int[numGames];
+        this.episodeTicks = new int[numGames];
+        this.rngState = new long[numGames];
+        this.rewards = new int[numGames];
+        this.dones = new boolean[numGames];
+        this.finalScores = new int[numGames];
+
+        for (int game = 0; game < numGames; game++) {
+            rngState[game] = mix(seed + (game + 1) * GOLDEN_GAMMA);
+            resetGame(game);
+        }
+    }
+
+    /**
+     * Avanza un tick en todas las partidas.
+     * Después de la llamada, getRewards() y getDones() describen el resultado del
+     * tick. Las partidas terminadas ya están reiniciadas; su puntuación final queda
+     * en getFinalScores().
+     *
+     * @param actions una acción por partida: ordinal de Direction o NO_ACTION
+     */
+    public void stepAll(int[] actions) {
+        if (actions.length < numGames) {
+            throw new IllegalArgumentException("Se esperaban " + numGames + " acciones, hay " + actions.length);
+        }
+        for (int game = 0; game < numGames; game++) {
+            rewards[game] = 0;
+            dones[game] = false;
+            if (!stepGame(game, actions[game])) {
+                dones[game] = true;
+                finalScores[game] = score[game];
+                episodesCompleted++;
+                resetGame(game);
+            }
+        }
+    }
+
+    /**
+     * Aplica las reglas de GameModel.update() a una partida.
+     *
+     * @return false si la partida terminó en este tick
+     */
+    private boolean stepGame(int game, int action) {
+        if (action >= 0 && !DIRECTIONS[action].isOpposite(DIRECTIONS[direction[game]])) {
+            direction[game] = action;
+        }
+        Direction dir = DIRECTIONS[direction[game]];
+        episodeTicks[game]++;
+
+        int base = game * cellCount;
+        int head = body[base + headIndex[game]];
+        int x = head % width + dir.getDeltaX();
+        int y = head / width + dir.getDeltaY();
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        int newHead = y * width + x;
+
+        if (pendingGrowth[game] > 0) {
+            pendingGrowth[game]--;
+            length[game]++;
+        } else {
+            int tailIndex = headIndex[game] + length[game] - 1;
+            if (tailIndex >= cellCount) {
+                tailIndex -= cellCount;
+            }
+            clearBit(game, body[base + tailIndex]);
+        }
+
+        if (testBit(game, newHead)) {
+            return false;
+        }
+        setBit(game, newHead);
+        headIndex[game] = headIndex[game] == 0 ? cellCount - 1 : headIndex[game] - 1;
+        body[base + headIndex[game]] = newHead;
+
+        if (newHead == foodCell[game]) {
+            score[game] += foodPoints[game];
+            rewards[game] = foodPoints[game];
+            pendingGrowth[game]++;
+            spawnFood(game);
+        }
+        return true;
+    }
+
+    /**
+     * Reinicia una partida al estado inicial de GameModel.initializeGame().
+     */
+    private void resetGame(int game) {
+        int wordBase = game * wordsPerGame;
+        for (int i = 0; i < wordsPerGame; i++) {
+            occupancy[wordBase + i] = 0L;
+        }
+        int start = (height / 2) * width + width / 2;
+        headIndex[game] = 0;
+        body[game * cellCount] = start;
+        length[game] = 1;
+        pendingGrowth[game] = Math.max(0, initialLength - 1);
+        direction[game] = Direction.RIGHT.ordinal();
+        score[game] = 0;
+        episodeTicks[game] = 0;
+        setBit(game, start);
+        spawnFood(game);
+    }
+
+    /**
+     * Elige una celda libre uniforme: sortea un índice entre las celdas libres y lo
+     * localiza contando bits libres por palabra del mapa de ocupación.
+     */
+    private void spawnFood(int game) {
+        int free = cellCount - length[game];
+        if (free <= 0) {
+            foodCell[game] = -1;
+            return;
+        }
+        int target = nextInt(game, free);
+        int wordBase = game * wordsPerGame;
+        for (int w = 0; w < wordsPerGame; w++) {
+            long freeBits = ~occupancy[wordBase + w] & validMask(w);
+            int count = Long.bitCount(freeBits);
+            if (target < count) {
+                for (int i = 0; i < target; i++) {
+                    freeBits &= freeBits - 1;
+                }
+                foodCell[game] = (w << 6) + Long.numberOfTrailingZeros(freeBits);
+                break;
+            }
+            target -= count;
+        }
+        foodPoints[game] = nextDouble(game) < bonusFoodChance ? bonusFoodPoints : normalFoodPoints;
+    }
+
+    private long validMask(int word) {
+        int remaining = cellCount - (word << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    private boolean testBit(int game, int cell) {
+        return (occupancy[game * wordsPerGame + (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    private void setBit(int game, int cell) {
+        occupancy[game * wordsPerGame + (cell >>> 6)] |= 1L << cell;
+    }
+
+    private void clearBit(int game, int cell) {
+        occupancy[game * wordsPerGame + (cell >>> 6)] &= ~(1L << cell);
+    }
+
+    // Generador SplitMix64 por partida, guardado como un long en rngState.
+
+    private long nextLong(int game) {
+        long state = rngState[game] + GOLDEN_GAMMA;
+        rngState[game] = state;
+        return mix(state);
+    }
+
+    private int nextInt(int game, int bound) {
+        return (int) (((nextLong(game) >>> 32) * bound) >>> 32);
+    }
+
+    private double nextDouble(int game) {
+        return (nextLong(game) >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Verifica si una celda de una partida está ocupada por la serpiente.
+     *
+     * @param game el índice de la partida
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si la celda está ocupada
+     */
+    public boolean isOccupied(int game, int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return testBit(game, y * width + x);
+    }
+
+    public int getHeadX(int game) {
+        return body[game * cellCount + headIndex[game]] % width;
+    }
+
+    public int getHeadY(int game) {
+        return body[game * cellCount + headIndex[game]] / width;
+    }
+
+    /**
+     * Obtiene la celda de la comida ({@code y * width + x}), o -1 si no hay comida.
+     *
+     * @param game el índice de la partida
+     * @return la celda de la comida
+     */
+    public int getFoodCell(int game) {
+        return foodCell[game];
+    }
+
+    public int getFoodPoints(int game) {
+        return foodPoints[game];
+    }
+
+    public int getScore(int game) {
+        return score[game];
+    }
+
+    /**
+     * Obtiene la longitud de la serpiente, incluyendo el crecimiento pendiente.
+     *
+     * @param game el índice de la partida
+     * @return la longitud de la serpiente
+     */
+    public int getLength(int game) {
+        return length[game] + pendingGrowth[game];
+    }
+
+    public Direction getDirection(int game) {
+        return DIRECTIONS[direction[game]];
+    }
+
+    public int getEpisodeTicks(int game) {
+        return episodeTicks[game];
+    }
+
+    /**
+     * Obtiene los puntos ganados por cada partida en el último stepAll().
+     * El arreglo se reutiliza en cada llamada.
+     *
+     * @return recompensas por partida
+     */
+    public int[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Indica qué partidas terminaron (y se reiniciaron) en el último stepAll().
+     * El arreglo se reutiliza en cada llamada.
+     *
+     * @return indicadores de fin por partida
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Obtiene la puntuación final de la última partida terminada de cada índice.
+     * El arreglo se reutiliza en cada llamada.
+     *
+     * @return puntuaciones finales por partida
+     */
+    public int[] getFinalScores() {
+        return finalScores;
+    }
+
+    public long getEpisodesCompleted() {
+        return episodesCompleted;
+    }
+
+    public int getNumGames() {
+        return numGames;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -8,6 +8,13 @@ package snake.config;
  * Esto proporciona un punto de acceso global para constantes y ajustes del juego,
  * asegurando consistencia a través de todos los componentes del juego.
  * 
+ * Algunos valores pueden cambiarse con propiedades del sistema antes del primer
+ * acceso: {@code snake.grid.width}, {@code snake.grid.height},
+ * {@code snake.viewport.width}, {@code snake.viewport.height},
+ * {@code snake.initialLength}, {@code snake.body}, {@code snake.render.incremental},
+ * {@code snake.render.mode}, {@code snake.render.fps}, {@code snake.render.stride},
+ * {@code snake.events.policy} y {@code snake.events.capacity}.
+ * 
  * @author Snake Game
  * @version 1.0
  */
@@ -16,19 +23,87 @@ public class GameConfig {
     
     private final int gridWidth;
     private final int gridHeight;
+    private final int viewportWidth;
+    private final int viewportHeight;
     private final int cellSize;
     private final int initialSnakeLength;
     private final double bonusFoodChance;
+    private final SnakeBodyType snakeBodyType;
+    private final boolean incrementalRendering;
+    private final RenderMode renderMode;
+    private final int targetFps;
+    private final int renderTickStride;
+    private final ViewEventPolicy viewEventPolicy;
+    private final int viewEventCapacity;
+
+    /**
+     * Implementaciones disponibles para el cuerpo de la serpiente.
+     */
+    public enum SnakeBodyType {
+        /**
+         * Lista de segmentos que se desplazan uno a uno en cada tick (O(n)).
+         */
+        COMPOSITE,
+
+        /**
+         * Buffer circular donde mover es insertar cabeza y descartar cola (O(1)).
+         */
+        RING_BUFFER
+    }
+
+    /**
+     * Formas de dibujar el tablero.
+     */
+    public enum RenderMode {
+        /**
+         * JPanel de Swing repintado con repaint() en el EDT.
+         */
+        PASSIVE,
+
+        /**
+         * Canvas con BufferStrategy dibujado por un hilo propio a una tasa objetivo.
+         */
+        ACTIVE
+    }
+
+    /**
+     * Qué hace cada vista con los eventos del modelo que se acumulan en el EDT.
+     */
+    public enum ViewEventPolicy {
+        /**
+         * Combina los eventos pendientes en uno solo con los indicadores de todos y
+         * solo el delta del más reciente; las celdas de los anteriores se pierden. Si la
+         * secuencia salta, la vista debe resincronizarse con la última foto.
+         */
+        COALESCE,
+
+        /**
+         * Guarda hasta la capacidad configurada y descarta el evento más antiguo.
+         */
+        DROP_OLDEST
+    }
 
     /**
      * Constructor privado para el patrón Singleton.
      */
     private GameConfig() {
-        this.gridWidth = 20;
-        this.gridHeight = 20;
+        this.gridWidth = Integer.getInteger("snake.grid.width", 20);
+        this.gridHeight = Integer.getInteger("snake.grid.height", 20);
+        this.viewportWidth = Math.min(gridWidth, Integer.getInteger("snake.viewport.width", 40));
+        this.viewportHeight = Math.min(gridHeight, Integer.getInteger("snake.viewport.height", 30));
         this.cellSize = 25;
-        this.initialSnakeLength = 3;
+        this.initialSnakeLength = Integer.getInteger("snake.initialLength", 3);
         this.bonusFoodChance = 0.15;
+        this.snakeBodyType = SnakeBodyType.valueOf(
+                System.getProperty("snake.body", SnakeBodyType.RING_BUFFER.name()).toUpperCase());
+        this.incrementalRendering = Boolean.parseBoolean(System.getProperty("snake.render.incremental", "true"));
+        this.renderMode = RenderMode.valueOf(
+                System.getProperty("snake.render.mode", RenderMode.PASSIVE.name()).toUpperCase());
+        this.targetFps = Integer.getInteger("snake.render.fps", 60);
+        this.renderTickStride = Math.max(1, Integer.getInteger("snake.render.stride", 1));
+        this.viewEventPolicy = ViewEventPolicy.valueOf(
+                System.getProperty("snake.events.policy", ViewEventPolicy.COALESCE.name()).toUpperCase());
+        this.viewEventCapacity = Math.max(1, Integer.getInteger("snake.events.capacity", 64));
     }
 
     /**
@@ -62,6 +137,27 @@ public class GameConfig {
         return gridHeight;
     }
 
+    /**
+     * Obtiene el ancho de la zona visible del tablero en celdas.
+     * Nunca es mayor que el ancho de la cuadrícula; si es menor, la vista sigue a la
+     * serpiente con una cámara.
+     * 
+     * @return ancho visible en celdas
+     */
+    public int getViewportWidth() {
+        return viewportWidth;
+    }
+
+    /**
+     * Obtiene la altura de la zona visible del tablero en celdas.
+     * Nunca es mayor que la altura de la cuadrícula.
+     * 
+     * @return altura visible en celdas
+     */
+    public int getViewportHeight() {
+        return viewportHeight;
+    }
+
     /**
      * Obtiene el tamaño de cada celda en píxeles.
      * 
@@ -72,21 +168,21 @@ public class GameConfig {
     }
 
     /**
-     * Obtiene el ancho del panel del juego en píxeles.
+     * Obtiene el ancho del panel del juego en píxeles (la zona visible).
      * 
      * @return ancho del panel
      */
     public int getPanelWidth() {
-        return gridWidth * cellSize;
+        return viewportWidth * cellSize;
     }
 
     /**
-     * Obtiene la altura del panel del juego en píxeles.
+     * Obtiene la altura del panel del juego en píxeles (la zona visible).
      * 
      * @return altura del panel
      */
     public int getPanelHeight() {
-        return gridHeight * cellSize;
+        return viewportHeight * cellSize;
     }
 
     /**
@@ -106,4 +202,80 @@ public class GameConfig {
     public double getBonusFoodChance() {
         return bonusFoodChance;
     }
+
+    /**
+     * Obtiene la implementación del cuerpo de la serpiente a usar.
+     * Se puede seleccionar con la propiedad del sistema {@code snake.body}
+     * ({@code composite} o {@code ring_buffer}).
+     * 
+     * @return el tipo de cuerpo de la serpiente
+     */
+    public SnakeBodyType getSnakeBodyType() {
+        return snakeBodyType;
+    }
+
+    /**
+     * Indica si el panel del juego repinta solo las celdas que cambian en cada tick.
+     * Se puede desactivar con la propiedad del sistema {@code snake.render.incremental=false}.
+     * 
+     * @return true si el repintado incremental está activo
+     */
+    public boolean isIncrementalRendering() {
+        return incrementalRendering;
+    }
+
+    /**
+     * Obtiene la forma de dibujar el tablero.
+     * Se puede seleccionar con la propiedad del sistema {@code snake.render.mode}
+     * ({@code passive} o {@code active}).
+     * 
+     * @return el modo de renderizado
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Obtiene los cuadros por segundo objetivo del renderizado activo, que también son
+     * el máximo del renderizado pasivo cuando los ticks llegan más rápido (modo turbo).
+     * Con 0, el hilo de renderizado no espera entre cuadros y queda limitado por
+     * la sincronización vertical, y el renderizado pasivo no tiene límite.
+     * 
+     * @return cuadros por segundo objetivo
+     */
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Obtiene cada cuántos ticks se dibuja como mucho un cuadro en el renderizado pasivo.
+     * Se puede cambiar con la propiedad del sistema {@code snake.render.stride}; con 1
+     * (por defecto) solo limita la tasa de cuadros de {@link #getTargetFps()}.
+     * 
+     * @return ticks por cuadro, 1 o más
+     */
+    public int getRenderTickStride() {
+        return renderTickStride;
+    }
+
+    /**
+     * Obtiene qué hacen las vistas con los eventos del modelo que se acumulan en el EDT.
+     * Se puede seleccionar con la propiedad del sistema {@code snake.events.policy}
+     * ({@code coalesce}, por defecto, o {@code drop_oldest}).
+     * 
+     * @return la política de las vistas
+     */
+    public ViewEventPolicy getViewEventPolicy() {
+        return viewEventPolicy;
+    }
+
+    /**
+     * Obtiene cuántos eventos pendientes guarda como mucho cada vista con la política
+     * {@code drop_oldest}. Se puede cambiar con {@code snake.events.capacity}.
+     * 
+     * @return capacidad del buzón de cada vista
+     */
+    public int getViewEventCapacity() {
+        return viewEventCapacity;
+    }
 }
@@ -1,18 +1,26 @@
 package snake.controller;
 
+import snake.metrics.GameMetrics;
 import snake.model.Direction;
 import snake.model.GameModel;
 import snake.model.GameState;
 import snake.model.strategy.FastSpeed;
 import snake.model.strategy.NormalSpeed;
 import snake.model.strategy.SlowSpeed;
+import snake.model.strategy.TurboSpeed;
+import snake.replay.Replay;
+import snake.replay.ReplayRecorder;
 import snake.view.GameFrame;
 
 import javax.swing.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Controlador que gestiona la entrada del usuario y el bucle del juego.
@@ -20,8 +28,14 @@ import java.awt.event.KeyEvent;
  * 
  * MVC: Controlador
  * GameController maneja la entrada del teclado vía KeyListener,
- * gestiona el bucle del juego usando un Timer de Swing, y coordina
- * las actualizaciones entre las capas Modelo y Vista.
+ * gestiona el bucle del juego con un GameLoop de paso fijo en su propio hilo,
+ * y coordina las actualizaciones entre las capas Modelo y Vista.
+ * 
+ * El modelo solo se modifica en el hilo del bucle: las teclas se traducen en
+ * comandos que el bucle ejecuta antes del siguiente tick.
+ * 
+ * También activa las métricas del juego y las publica por JMX
+ * ({@value snake.metrics.GameMetrics#OBJECT_NAME}).
  * 
  * @author Snake Game
  * @version 1.0
@@ -29,7 +43,10 @@ import java.awt.event.KeyEvent;
 public class GameController {
     private final GameModel model;
     private final GameFrame view;
-    private Timer gameTimer;
+    private final ReplayRecorder replayRecorder;
+    private final Path replayDirectory;
+    private final GameMetrics metrics;
+    private final GameLoop gameLoop;
 
     /**
      * Crea un nuevo GameController.
@@ -40,16 +57,23 @@ public class GameController {
     public GameController(GameModel model, GameFrame view) {
         this.model = model;
         this.view = view;
+        this.replayRecorder = ReplayRecorder.attach(model);
+        String replayDir = System.getProperty("snake.replay.dir");
+        this.replayDirectory = replayDir != null ? Paths.get(replayDir) : null;
+        this.metrics = GameMetrics.getInstance();
+        metrics.registerMBean();
+        model.setMetrics(metrics);
+        this.gameLoop = new GameLoop(model, this::tick);
         
         initializeKeyListener();
-        initializeGameLoop();
+        gameLoop.start();
     }
 
     /**
      * Inicializa el manejo de entrada del teclado.
      */
     private void initializeKeyListener() {
-        view.getGamePanel().addKeyListener(new KeyAdapter() {
+        view.getBoardComponent().addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
                 handleKeyPress(e);
@@ -59,33 +83,32 @@ public class GameController {
 
     /**
      * Maneja la entrada del teclado para los controles del juego.
+     * Se ejecuta en el EDT; las direcciones van a la cola de entrada del modelo y
+     * los demás cambios se envían como comandos al hilo del bucle.
      */
     private void handleKeyPress(KeyEvent e) {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_UP:
             case KeyEvent.VK_W:
-                model.setDirection(Direction.UP);
+                enqueueDirection(Direction.UP);
                 break;
             case KeyEvent.VK_DOWN:
             case KeyEvent.VK_S:
-                model.setDirection(Direction.DOWN);
+                enqueueDirection(Direction.DOWN);
                 break;
             case KeyEvent.VK_LEFT:
             case KeyEvent.VK_A:
-                model.setDirection(Direction.LEFT);
+                enqueueDirection(Direction.LEFT);
                 break;
             case KeyEvent.VK_RIGHT:
             case KeyEvent.VK_D:
-                model.setDirection(Direction.RIGHT);
+                enqueueDirection(Direction.RIGHT);
                 break;
             case KeyEvent.VK_SPACE:
-                model.togglePause();
+                gameLoop.execute(model::togglePause);
                 break;
             case KeyEvent.VK_ENTER:
-                if (model.getGameState() == GameState.GAME_OVER) {
-                    model.initializeGame();
-                    restartGameLoop();
-                }
+                gameLoop.execute(this::restartGame);
                 break;
             case KeyEvent.VK_1:
                 changeSpeed(new SlowSpeed());
@@ -96,48 +119,75 @@ public class GameController {
             case KeyEvent.VK_3:
                 changeSpeed(new FastSpeed());
                 break;
+            case KeyEvent.VK_4:
+                changeSpeed(new TurboSpeed());
+                break;
+        }
+    }
+
+    /**
+     * Encola una dirección con el instante de la pulsación. El EDT es el único
+     * productor de la cola y el modelo la consume en el hilo del bucle.
+     */
+    private void enqueueDirection(Direction direction) {
+        if (!model.getInputQueue().offer(direction, System.nanoTime())) {
+            // Cola llena: más pulsaciones pendientes que su capacidad. Se aplica por la
+            // vía de comandos para no perderla.
+            gameLoop.execute(() -> model.setDirection(direction));
         }
     }
 
     /**
-     * Cambia la velocidad del juego actualizando la estrategia.
+     * Cambia la velocidad del juego actualizando la estrategia. El bucle lee el
+     * retardo en cada vuelta, así que el cambio afecta ya al tick pendiente.
      */
     private void changeSpeed(snake.model.strategy.MovementStrategy strategy) {
-        model.setMovementStrategy(strategy);
-        restartGameLoop();
+        gameLoop.execute(() -> model.setMovementStrategy(strategy));
     }
 
     /**
-     * Inicializa el timer del bucle del juego.
+     * Reinicia la partida si terminó. El primer tick llega un retardo completo después.
      */
-    private void initializeGameLoop() {
-        gameTimer = new Timer(model.getMovementStrategy().getMovementDelay(), new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (model.getGameState() == GameState.RUNNING) {
-                    model.update();
-                }
+    private void restartGame() {
+        if (model.getGameState() == GameState.GAME_OVER) {
+            model.initializeGame();
+            gameLoop.resetClock();
+        }
+    }
+
+    /**
+     * Ejecuta un tick del juego en el hilo del bucle y guarda la repetición si la
+     * partida terminó. Registra como desfase cuánto empezó el tick después de su
+     * instante programado.
+     */
+    private void tick() {
+        if (model.getGameState() == GameState.RUNNING) {
+            metrics.recordTimerJitter(System.nanoTime() - gameLoop.getScheduledNanos());
+            model.update();
+            if (model.getGameState() == GameState.GAME_OVER) {
+                saveReplay();
             }
-        });
-        gameTimer.start();
+        }
     }
 
     /**
-     * Reinicia el bucle del juego con la configuración de velocidad actual.
+     * Guarda la repetición de la partida terminada en el directorio indicado por la
+     * propiedad del sistema {@code snake.replay.dir}, si está definida.
      */
-    private void restartGameLoop() {
-        if (gameTimer != null) {
-            gameTimer.stop();
+    private void saveReplay() {
+        if (replayDirectory == null) {
+            return;
         }
-        gameTimer = new Timer(model.getMovementStrategy().getMovementDelay(), new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (model.getGameState() == GameState.RUNNING) {
-                    model.update();
-                }
+        Replay replay = replayRecorder.toReplay();
+        Path file = replayDirectory.resolve("snake-" + System.currentTimeMillis() + ".snkr");
+        try {
+            Files.createDirectories(replayDirectory);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                replay.writeTo(out);
             }
-        });
-        gameTimer.start();
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la repetición: " + e.getMessage());
+        }
     }
 
     /**
@@ -146,7 +196,7 @@ public class GameController {
     public void startGame() {
         SwingUtilities.invokeLater(() -> {
             view.setVisible(true);
-            view.getGamePanel().requestFocusInWindow();
+            view.getBoardComponent().requestFocusInWindow();
         });
     }
 }
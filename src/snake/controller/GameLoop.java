@@ -0,0 +1,225 @@
+package snake.controller;
+
+import snake.model.GameModel;
+import snake.model.GameState;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bucle de juego de paso fijo en un hilo propio, medido con System.nanoTime().
+ *
+ * Cada tick tiene un instante programado: el del tick anterior más el retardo de la
+ * MovementStrategy vigente. Como el siguiente instante se calcula desde el programado
+ * y no desde el momento en que el tick terminó, los retrasos no se acumulan (no hay
+ * deriva). El retardo se lee en cada vuelta, así que un cambio de velocidad afecta al
+ * tick pendiente sin recrear nada.
+ *
+ * Si el bucle se retrasa (por ejemplo, por una pausa del GC), ejecuta los ticks
+ * atrasados seguidos para recuperar el ritmo, hasta {@link #MAX_CATCH_UP_TICKS}. Los
+ * que excedan ese límite se descartan, para que la partida no avance de golpe.
+ *
+ * La espera combina LockSupport.parkNanos() hasta poco antes del instante programado
+ * con una espera activa breve al final, de modo que el desfase de cada tick queda
+ * por debajo de ~1 ms a cualquier velocidad sin ocupar la CPU entre ticks. Los bucles
+ * que se crean por miles (ver SessionHost) prescinden de la espera activa.
+ *
+ * Con un retardo de 0 (modo turbo, ver TurboSpeed) no hay instante programado: los
+ * ticks se ejecutan seguidos, atendiendo los comandos entre uno y otro. Mientras la
+ * partida no está en curso no hay nada que simular, así que el hilo duerme hasta que
+ * llega un comando en lugar de girar en vacío.
+ *
+ * El modelo solo se toca desde el hilo del bucle. Otros hilos (el EDT con la entrada
+ * del teclado) envían comandos con {@link #execute(Runnable)}, que se ejecutan en el
+ * hilo del bucle antes del siguiente tick.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameLoop {
+    /**
+     * Máximo de ticks atrasados que se ejecutan seguidos para recuperar el ritmo.
+     */
+    public static final int MAX_CATCH_UP_TICKS = 5;
+
+    /**
+     * Espera activa por defecto al final de cada espera, en nanosegundos.
+     */
+    public static final long DEFAULT_SPIN_NANOS = 1_000_000L;
+
+    private final GameModel model;
+    private final Runnable tick;
+    private final Thread thread;
+    private final long spinNanos;
+    private final Queue<Runnable> commands;
+    private volatile boolean running;
+    private long scheduledNanos;
+    private volatile long skippedTicks;
+
+    /**
+     * Crea un bucle en un hilo daemon de plataforma.
+     *
+     * @param model el modelo, del que se lee el retardo entre ticks
+     * @param tick la acción de cada tick
+     */
+    public GameLoop(GameModel model, Runnable tick) {
+        this(model, tick, runnable -> {
+            Thread thread = new Thread(runnable, "snake-game-loop");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Crea un bucle en un hilo creado por la fábrica dada.
+     *
+     * @param model el modelo, del que se lee el retardo entre ticks
+     * @param tick la acción de cada tick
+     * @param threadFactory crea el hilo del bucle
+     */
+    public GameLoop(GameModel model, Runnable tick, ThreadFactory threadFactory) {
+        this(model, tick, threadFactory, DEFAULT_SPIN_NANOS);
+    }
+
+    /**
+     * Crea un bucle en un hilo creado por la fábrica dada, con la espera activa dada.
+     * Con miles de bucles en la misma JVM (ver SessionHost) conviene 0: la espera
+     * activa de cada uno sumaría núcleos enteros, y un desfase de un par de
+     * milisegundos no se nota.
+     *
+     * @param model el modelo, del que se lee el retardo entre ticks
+     * @param tick la acción de cada tick
+     * @param threadFactory crea el hilo del bucle
+     * @param spinNanos nanosegundos de espera activa antes de cada tick, 0 para solo dormir
+     */
+    public GameLoop(GameModel model, Runnable tick, ThreadFactory threadFactory, long spinNanos) {
+        this.model = model;
+        this.tick = tick;
+        this.spinNanos = spinNanos;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.thread = threadFactory.newThread(this::run);
+    }
+
+    /**
+     * Inicia el hilo del bucle. El primer tick llega un retardo después.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Detiene el bucle y espera a que termine el tick en curso.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Ejecuta un comando en el hilo del bucle antes del siguiente tick.
+     * Se puede llamar desde cualquier hilo.
+     *
+     * @param command el comando
+     */
+    public void execute(Runnable command) {
+        commands.add(command);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Reprograma el siguiente tick a un retardo completo desde ahora, por ejemplo al
+     * reiniciar la partida. Solo desde el hilo del bucle (dentro de un comando o tick).
+     */
+    public void resetClock() {
+        scheduledNanos = System.nanoTime();
+    }
+
+    /**
+     * Obtiene el instante para el que estaba programado el tick en curso (o el último).
+     * Restándolo de System.nanoTime() al empezar el tick se obtiene su desfase.
+     *
+     * @return el instante programado en nanosegundos
+     */
+    public long getScheduledNanos() {
+        return scheduledNanos;
+    }
+
+    /**
+     * Obtiene cuántos ticks atrasados se descartaron por superar el límite de recuperación.
+     *
+     * @return ticks descartados
+     */
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    private void run() {
+        scheduledNanos = System.nanoTime();
+        while (running) {
+            runCommands();
+            long delay = model.getMovementStrategy().getMovementDelay() * 1_000_000L;
+            long now = System.nanoTime();
+            if (delay <= 0) {
+                runTurboTick(now);
+                continue;
+            }
+            long due = scheduledNanos + delay;
+            if (now < due) {
+                waitUntil(due, now);
+                continue;
+            }
+            long excess = (now - due) / delay - MAX_CATCH_UP_TICKS;
+            if (excess > 0) {
+                skippedTicks += excess;
+                due += excess * delay;
+            }
+            scheduledNanos = due;
+            tick.run();
+        }
+    }
+
+    /**
+     * Ejecuta un tick sin esperar, o duerme hasta el siguiente comando si la partida
+     * está pausada o terminada: solo un comando puede reanudarla.
+     */
+    private void runTurboTick(long now) {
+        if (model.getGameState() != GameState.RUNNING) {
+            LockSupport.park(this);
+            return;
+        }
+        scheduledNanos = now;
+        tick.run();
+    }
+
+    private void runCommands() {
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+        }
+    }
+
+    /**
+     * Espera hasta el instante dado. Duerme mientras falte más de spinNanos y espera
+     * de forma activa el resto. Vuelve antes si llega un comando.
+     */
+    private void waitUntil(long due, long now) {
+        long remaining = due - now;
+        if (remaining > spinNanos) {
+            LockSupport.parkNanos(this, remaining - spinNanos);
+            return;
+        }
+        while (System.nanoTime() < due && commands.isEmpty()) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package snake.export;
+
+import snake.model.GameModel;
+import snake.replay.Replay;
+import snake.replay.ReplayPlayer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Herramienta de línea de comandos que exporta una repetición como secuencia de cuadros.
+ * Funciona sin pantalla ({@code java.awt.headless=true}).
+ *
+ * Uso: {@code java -cp out snake.export.ExportMain archivo.snkr salida [png|rgb] [hilos]}
+ *
+ * Con {@code png}, la salida es un directorio con un archivo por cuadro. Con
+ * {@code rgb}, la salida es un único archivo de píxeles RGB24 en orden. Con la salida
+ * {@code -}, los cuadros se escriben en orden en la salida estándar, por ejemplo:
+ * <pre>
+ *   java -cp out snake.export.ExportMain partida.snkr - rgb | \
+ *       ffmpeg -f rawvideo -pix_fmt rgb24 -s 500x500 -r 30 -i - partida.mp4
+ * </pre>
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ExportMain {
+    private static final int QUEUE_CAPACITY = 32;
+
+    /**
+     * Punto de entrada de la herramienta.
+     *
+     * @param args la repetición, la salida, el formato y el número de hilos
+     * @throws IOException si falla la lectura de la repetición o la escritura de cuadros
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 2) {
+            System.err.println("Uso: ExportMain archivo.snkr salida [png|rgb] [hilos]");
+            System.exit(1);
+        }
+        FrameFormat format = args.length > 2 && args[2].equalsIgnoreCase("rgb") ? FrameFormat.RAW_RGB : FrameFormat.PNG;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Replay replay;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(args[0])))) {
+            replay = Replay.readFrom(in);
+        }
+
+        GameModel model = new GameModel();
+        FrameExporter exporter = new FrameExporter(model, format, createSink(args[1], format), threads, QUEUE_CAPACITY);
+        long start = System.nanoTime();
+        try {
+            ReplayPlayer.play(replay, model);
+        } finally {
+            exporter.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double gameSeconds = replay.getTickCount() * model.getMovementStrategy().getMovementDelay() / 1000.0;
+
+        System.err.println("Cuadros exportados: " + exporter.getFrameCount() + " (" + threads + " hilos)");
+        System.err.printf("Tiempo: %.3f s (%.0f cuadros por segundo)%n", seconds, exporter.getFrameCount() / seconds);
+        System.err.printf("Velocidad: %.1fx tiempo real%n", gameSeconds / seconds);
+    }
+
+    /**
+     * Crea el destino de los cuadros según la salida y el formato pedidos.
+     */
+    private static FrameSink createSink(String output, FrameFormat format) throws IOException {
+        if (output.equals("-")) {
+            return new OrderedStreamSink(new BufferedOutputStream(System.out, 1 << 16));
+        }
+        Path path = Paths.get(output);
+        if (format == FrameFormat.PNG) {
+            return new FileSequenceSink(path, format.getExtension());
+        }
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+        return new OrderedStreamSink(out);
+    }
+}
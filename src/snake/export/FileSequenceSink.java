@@ -0,0 +1,39 @@
+package snake.export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Escribe cada cuadro en su propio archivo: {@code frame_000000.png},
+ * {@code frame_000001.png}, etc. Los archivos son independientes, así que los hilos
+ * codificadores escriben sin coordinarse.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class FileSequenceSink implements FrameSink {
+    private final Path directory;
+    private final String extension;
+
+    /**
+     * Crea el destino, creando el directorio si no existe.
+     *
+     * @param directory el directorio de salida
+     * @param extension la extensión de los archivos, sin punto
+     * @throws IOException si no se puede crear el directorio
+     */
+    public FileSequenceSink(Path directory, String extension) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.extension = extension;
+    }
+
+    @Override
+    public void write(long frame, byte[] data) throws IOException {
+        Files.write(directory.resolve(String.format("frame_%06d.%s", frame, extension)), data);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,201 @@
+package snake.export;
+
+import snake.model.GameModel;
+import snake.model.observer.GameObserver;
+import snake.model.snapshot.GameSnapshot;
+import snake.model.snapshot.SnapshotPublisher;
+import snake.view.OffscreenRenderer;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exporta cada cuadro de una partida como imagen, sin pantalla.
+ *
+ * PATRÓN: Observer (Observador Concreto)
+ * Se registra en el modelo como observador síncrono: a diferencia de las vistas,
+ * necesita cada tick y en orden, así que sus eventos no se combinan ni se descartan y
+ * el modelo espera a que termine. En cada actualización dibuja la
+ * última GameSnapshot con un OffscreenRenderer, en el hilo que mueve el modelo (la
+ * cámara necesita los cuadros en orden), y pasa la imagen a un grupo de hilos que la
+ * codifican (PNG o RGB) y la escriben en un FrameSink. Codificar es lo costoso, así
+ * que con varios hilos una partida se exporta mucho más rápido que en tiempo real.
+ *
+ * El flujo está acotado: las imágenes salen de un pool fijo y vuelven a él cuando el
+ * destino acepta el cuadro, y la cola hacia los codificadores tiene capacidad fija.
+ * Si los codificadores no dan abasto, el modelo espera en lugar de acumular cuadros.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class FrameExporter implements GameObserver, Closeable {
+    private static final Frame END = new Frame(-1, null);
+
+    private final GameModel model;
+    private final SnapshotPublisher snapshots;
+    private final OffscreenRenderer renderer;
+    private final FrameFormat format;
+    private final FrameSink sink;
+    private final BlockingQueue<BufferedImage> freeImages;
+    private final BlockingQueue<Frame> frames;
+    private final Thread[] encoders;
+    private final AtomicReference<IOException> failure;
+    private long frameCount;
+
+    /**
+     * Crea el exportador, inicia los hilos codificadores y se registra en el modelo.
+     *
+     * @param model el modelo cuyos cuadros se exportan
+     * @param format el formato de los cuadros
+     * @param sink el destino de los cuadros codificados
+     * @param encoderThreads número de hilos codificadores
+     * @param queueCapacity cuadros que pueden esperar a ser codificados
+     */
+    public FrameExporter(GameModel model, FrameFormat format, FrameSink sink, int encoderThreads, int queueCapacity) {
+        if (encoderThreads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Hilos y capacidad deben ser positivos: "
+                    + encoderThreads + ", " + queueCapacity);
+        }
+        this.model = model;
+        this.snapshots = model.getSnapshots();
+        this.renderer = new OffscreenRenderer();
+        this.format = format;
+        this.sink = sink;
+        this.frames = new ArrayBlockingQueue<>(queueCapacity);
+        this.failure = new AtomicReference<>();
+
+        // Una imagen por cuadro en cola, una por codificador y una para el cuadro en curso.
+        int images = queueCapacity + encoderThreads + 1;
+        this.freeImages = new ArrayBlockingQueue<>(images);
+        for (int i = 0; i < images; i++) {
+            freeImages.add(renderer.createImage());
+        }
+
+        this.encoders = new Thread[encoderThreads];
+        for (int i = 0; i < encoderThreads; i++) {
+            encoders[i] = new Thread(this::encodeLoop, "snake-export-encoder-" + i);
+            encoders[i].setDaemon(true);
+            encoders[i].start();
+        }
+        model.registerObserver(this);
+    }
+
+    @Override
+    public void onGameUpdated() {
+        exportFrame();
+    }
+
+    @Override
+    public void onGameOver(int finalScore) {
+        exportFrame();
+    }
+
+    @Override
+    public void onScoreChanged(int newScore) {
+        // El cuadro del tick se exporta en onGameUpdated.
+    }
+
+    /**
+     * Dibuja la foto actual y la encola. Espera si no quedan imágenes libres.
+     */
+    private void exportFrame() {
+        if (failure.get() != null) {
+            return;
+        }
+        GameSnapshot snapshot = snapshots.acquire();
+        try {
+            BufferedImage image = freeImages.take();
+            renderer.render(snapshot, image);
+            frames.put(new Frame(frameCount++, image));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InterruptedIOException("Exportación interrumpida"));
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    /**
+     * Bucle de cada hilo codificador. Tras un error avisa al destino y deja de
+     * codificar, pero sigue devolviendo las imágenes al pool para que el modelo no
+     * quede bloqueado.
+     */
+    private void encodeLoop() {
+        while (true) {
+            Frame frame;
+            try {
+                frame = frames.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (frame == END) {
+                return;
+            }
+            try {
+                if (failure.get() == null) {
+                    sink.write(frame.number, format.encode(frame.image));
+                }
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e instanceof IOException
+                        ? (IOException) e : new IOException("Error al codificar el cuadro " + frame.number, e));
+                sink.abort();
+            } finally {
+                freeImages.add(frame.image);
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de cuadros encolados hasta ahora.
+     *
+     * @return cuadros exportados
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Deja de observar el modelo, espera a que se codifiquen los cuadros pendientes y
+     * cierra el destino.
+     *
+     * @throws IOException si falló la codificación o la escritura de algún cuadro
+     */
+    @Override
+    public void close() throws IOException {
+        model.removeObserver(this);
+        try {
+            for (int i = 0; i < encoders.length; i++) {
+                frames.put(END);
+            }
+            for (Thread encoder : encoders) {
+                encoder.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InterruptedIOException("Exportación interrumpida"));
+        }
+        sink.close();
+        IOException error = failure.get();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Un cuadro dibujado a la espera de ser codificado.
+     */
+    private static final class Frame {
+        final long number;
+        final BufferedImage image;
+
+        Frame(long number, BufferedImage image) {
+            this.number = number;
+            this.image = image;
+        }
+    }
+}
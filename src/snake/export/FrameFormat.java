@@ -0,0 +1,75 @@
+package snake.export;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Formatos en los que se codifican los cuadros exportados.
+ *
+ * La codificación no depende de ningún estado compartido, así que varios hilos pueden
+ * codificar cuadros distintos a la vez.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public enum FrameFormat {
+    /**
+     * Un archivo PNG por cuadro.
+     */
+    PNG("png") {
+        @Override
+        public byte[] encode(BufferedImage image) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(image.getWidth() * image.getHeight() / 4);
+            if (!ImageIO.write(image, "png", out)) {
+                throw new IOException("No hay codificador PNG disponible");
+            }
+            return out.toByteArray();
+        }
+    },
+
+    /**
+     * Píxeles RGB de 8 bits sin cabecera, fila a fila, para enviar a un codificador de
+     * vídeo (por ejemplo, {@code ffmpeg -f rawvideo -pix_fmt rgb24}).
+     */
+    RAW_RGB("rgb") {
+        @Override
+        public byte[] encode(BufferedImage image) {
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            byte[] rgb = new byte[pixels.length * 3];
+            for (int i = 0, j = 0; i < pixels.length; i++, j += 3) {
+                int pixel = pixels[i];
+                rgb[j] = (byte) (pixel >>> 16);
+                rgb[j + 1] = (byte) (pixel >>> 8);
+                rgb[j + 2] = (byte) pixel;
+            }
+            return rgb;
+        }
+    };
+
+    private final String extension;
+
+    FrameFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Codifica un cuadro.
+     *
+     * @param image el cuadro, de tipo {@link BufferedImage#TYPE_INT_RGB}
+     * @return los bytes codificados
+     * @throws IOException si falla la codificación
+     */
+    public abstract byte[] encode(BufferedImage image) throws IOException;
+
+    /**
+     * Obtiene la extensión de archivo del formato.
+     *
+     * @return la extensión, sin punto
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,37 @@
+package snake.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Destino de los cuadros codificados por FrameExporter.
+ *
+ * PATRÓN: Strategy
+ * El exportador no sabe si los cuadros acaban en archivos sueltos o en un único
+ * flujo; cada destino decide cómo escribirlos.
+ *
+ * Los hilos codificadores llaman a {@link #write(long, byte[])} en paralelo y en
+ * cualquier orden, así que las implementaciones deben ser seguras para varios hilos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public interface FrameSink extends Closeable {
+
+    /**
+     * Escribe un cuadro codificado.
+     *
+     * @param frame el número de cuadro, desde 0
+     * @param data los bytes codificados
+     * @throws IOException si falla la escritura
+     */
+    void write(long frame, byte[] data) throws IOException;
+
+    /**
+     * Avisa de que un cuadro no llegará porque falló su codificación o su escritura.
+     * Los destinos que esperan a un cuadro para escribir los siguientes deben dejar de
+     * esperar. Por defecto no hace nada.
+     */
+    default void abort() {
+    }
+}
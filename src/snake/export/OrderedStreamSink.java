@@ -0,0 +1,72 @@
+package snake.export;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * Escribe los cuadros en un único flujo y en orden, por ejemplo la entrada estándar
+ * de un codificador de vídeo.
+ *
+ * Los cuadros llegan desordenados desde los hilos codificadores. El hilo de un cuadro
+ * que se adelanta espera hasta que se haya escrito el anterior, así que la imagen no
+ * vuelve al pool del exportador y el exportador deja de dibujar cuando todas están
+ * ocupadas: nunca hay más cuadros en espera que hilos codificadores. No se bloquea,
+ * porque los codificadores toman los cuadros en orden y el que falta siempre lo tiene
+ * un codificador que sigue trabajando.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class OrderedStreamSink implements FrameSink {
+    private final OutputStream out;
+    private long nextFrame;
+    private boolean aborted;
+
+    /**
+     * Crea el destino sobre un flujo.
+     *
+     * @param out el flujo de salida; se cierra al cerrar el destino
+     */
+    public OrderedStreamSink(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void write(long frame, byte[] data) throws IOException {
+        while (frame != nextFrame && !aborted) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrumpido esperando el cuadro " + nextFrame);
+            }
+        }
+        if (aborted) {
+            throw new IOException("La exportación falló antes del cuadro " + frame);
+        }
+        boolean written = false;
+        try {
+            out.write(data);
+            written = true;
+        } finally {
+            if (written) {
+                nextFrame++;
+            } else {
+                aborted = true;
+            }
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void abort() {
+        aborted = true;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,146 @@
+package snake.headless;
+
+import snake.model.DeathCause;
+
+/**
+ * Resultados de un lote de partidas ejecutado por ParallelGameRunner.
+ *
+ * Guarda el resultado de cada partida en arreglos indexados por número de partida.
+ * Cada tarea escribe solo en sus propios índices, así que llenar los arreglos desde
+ * varios hilos no requiere sincronización. Los totales se calculan al combinar los
+ * resultados parciales de las tareas.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameRunResults {
+    private static final DeathCause[] CAUSES = DeathCause.values();
+
+    private final int[] scores;
+    private final int[] lengths;
+    private final long[] ticks;
+    private final byte[] deathCauses;
+
+    /**
+     * Crea resultados vacíos para el número de partidas dado.
+     *
+     * @param games número de partidas
+     */
+    public GameRunResults(int games) {
+        this.scores = new int[games];
+        this.lengths = new int[games];
+        this.ticks = new long[games];
+        this.deathCauses = new byte[games];
+    }
+
+    /**
+     * Registra el resultado de una partida.
+     *
+     * @param game el índice de la partida
+     * @param score la puntuación final
+     * @param length la longitud final de la serpiente
+     * @param ticksSurvived los ticks ejecutados
+     * @param cause la causa de fin
+     */
+    void record(int game, int score, int length, long ticksSurvived, DeathCause cause) {
+        scores[game] = score;
+        lengths[game] = length;
+        ticks[game] = ticksSurvived;
+        deathCauses[game] = (byte) cause.ordinal();
+    }
+
+    public int getGameCount() {
+        return scores.length;
+    }
+
+    public int getScore(int game) {
+        return scores[game];
+    }
+
+    public int getLength(int game) {
+        return lengths[game];
+    }
+
+    public long getTicks(int game) {
+        return ticks[game];
+    }
+
+    public DeathCause getDeathCause(int game) {
+        return CAUSES[deathCauses[game]];
+    }
+
+    /**
+     * Calcula una huella de todos los resultados, en orden de partida.
+     * Dos ejecuciones con la misma semilla maestra producen la misma huella
+     * sin importar el número de hilos.
+     *
+     * @return la huella de los resultados
+     */
+    public long checksum() {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < scores.length; i++) {
+            hash = 31 * hash + scores[i];
+            hash = 31 * hash + lengths[i];
+            hash = 31 * hash + ticks[i];
+            hash = 31 * hash + deathCauses[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Totales de un rango de partidas. Se combinan sin contención al unir tareas.
+     */
+    public static class Summary {
+        private long games;
+        private long totalScore;
+        private int maxScore;
+        private long totalLength;
+        private long totalTicks;
+        private final long[] deathCounts = new long[CAUSES.length];
+
+        void add(int score, int length, long ticksSurvived, DeathCause cause) {
+            games++;
+            totalScore += score;
+            maxScore = Math.max(maxScore, score);
+            totalLength += length;
+            totalTicks += ticksSurvived;
+            deathCounts[cause.ordinal()]++;
+        }
+
+        Summary combine(Summary other) {
+            games += other.games;
+            totalScore += other.totalScore;
+            maxScore = Math.max(maxScore, other.maxScore);
+            totalLength += other.totalLength;
+            totalTicks += other.totalTicks;
+            for (int i = 0; i < deathCounts.length; i++) {
+                deathCounts[i] += other.deathCounts[i];
+            }
+            return this;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getTotalScore() {
+            return totalScore;
+        }
+
+        public int getMaxScore() {
+            return maxScore;
+        }
+
+        public long getTotalLength() {
+            return totalLength;
+        }
+
+        public long getTotalTicks() {
+            return totalTicks;
+        }
+
+        public long getDeathCount(DeathCause cause) {
+            return deathCounts[cause.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package snake.headless;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.Position;
+import snake.model.grid.PositionCache;
+
+/**
+ * Bot simple que avanza hacia la comida evitando paredes y su propio cuerpo.
+ *
+ * PATRÓN: Strategy (Estrategia Concreta)
+ * GreedyInputSource elige, entre las direcciones que no chocan en el siguiente
+ * tick, la que más acerca la cabeza a la comida. Es determinista y no reserva
+ * memoria, por lo que sirve para simulaciones masivas y pruebas de rendimiento.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GreedyInputSource implements InputSource {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Override
+    public Direction nextDirection(GameModel model, long tick) {
+        PositionCache cache = model.getPositionCache();
+        Position head = model.getSnake().getHead().getPosition();
+        Direction current = model.getCurrentDirection();
+
+        Direction best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (Direction direction : DIRECTIONS) {
+            if (direction.isOpposite(current)) {
+                continue;
+            }
+            Position next = cache.move(head, direction);
+            if (!isSafe(model, next)) {
+                continue;
+            }
+            int distance = distanceToFood(model, next);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Verifica que la celda esté dentro de la cuadrícula y libre.
+     */
+    private boolean isSafe(GameModel model, Position position) {
+        PositionCache cache = model.getPositionCache();
+        if (position.getX() < 0 || position.getX() >= cache.getWidth() ||
+            position.getY() < 0 || position.getY() >= cache.getHeight()) {
+            return false;
+        }
+        return !model.getSnake().occupies(position);
+    }
+
+    /**
+     * Calcula la distancia Manhattan hasta la comida (0 si no hay comida).
+     */
+    private int distanceToFood(GameModel model, Position position) {
+        if (model.getCurrentFood() == null) {
+            return 0;
+        }
+        Position food = model.getCurrentFood().getPosition();
+        return Math.abs(food.getX() - position.getX()) + Math.abs(food.getY() - position.getY());
+    }
+}
@@ -0,0 +1,114 @@
+package snake.headless;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.GameState;
+
+/**
+ * Motor que avanza un GameModel sin Swing, sin Timer y sin pantalla.
+ *
+ * MVC: Controlador (sin vista)
+ * HeadlessEngine ocupa el lugar del GameController cuando no hay interfaz gráfica:
+ * toma las direcciones de un InputSource y llama a GameModel.update() en un bucle.
+ * Puede ejecutar los ticks tan rápido como permita la CPU o sobre un reloj virtual
+ * que avanza el retardo de la MovementStrategy actual en cada tick, sin esperar
+ * tiempo real.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class HeadlessEngine {
+    private final GameModel model;
+    private final InputSource inputSource;
+    private long tickCount;
+    private long virtualTimeMillis;
+
+    /**
+     * Crea un nuevo motor sin interfaz.
+     *
+     * @param model el modelo del juego a simular
+     * @param inputSource la fuente de direcciones
+     */
+    public HeadlessEngine(GameModel model, InputSource inputSource) {
+        this.model = model;
+        this.inputSource = inputSource;
+    }
+
+    /**
+     * Ejecuta ticks tan rápido como sea posible hasta que el juego deje de estar
+     * en ejecución o se alcance el límite de ticks.
+     *
+     * @param maxTicks número máximo de ticks a ejecutar
+     * @return número de ticks ejecutados
+     */
+    public long runUntilGameOver(long maxTicks) {
+        long executed = 0;
+        while (executed < maxTicks && step()) {
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Ejecuta ticks sobre el reloj virtual hasta consumir el tiempo indicado.
+     * Cada tick avanza el reloj el retardo de la MovementStrategy vigente, así que
+     * los cambios de velocidad se respetan igual que con el Timer de Swing.
+     *
+     * @param millis tiempo virtual a simular en milisegundos
+     * @return número de ticks ejecutados
+     */
+    public long runForVirtualTime(long millis) {
+        long deadline = virtualTimeMillis + millis;
+        long executed = 0;
+        while (model.getGameState() == GameState.RUNNING) {
+            long delay = Math.max(1, model.getMovementStrategy().getMovementDelay());
+            if (virtualTimeMillis + delay > deadline) {
+                break;
+            }
+            virtualTimeMillis += delay;
+            step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Ejecuta un único tick: consulta la fuente de entrada y actualiza el modelo.
+     *
+     * @return true si se ejecutó el tick, false si el juego no está en ejecución
+     */
+    public boolean step() {
+        if (model.getGameState() != GameState.RUNNING) {
+            return false;
+        }
+        Direction direction = inputSource.nextDirection(model, tickCount);
+        if (direction != null) {
+            model.setDirection(direction);
+        }
+        model.update();
+        tickCount++;
+        return true;
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Obtiene el total de ticks ejecutados por este motor.
+     *
+     * @return ticks ejecutados
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Obtiene el tiempo virtual transcurrido en milisegundos.
+     *
+     * @return tiempo virtual
+     */
+    public long getVirtualTimeMillis() {
+        return virtualTimeMillis;
+    }
+}
@@ -0,0 +1,58 @@
+package snake.headless;
+
+import snake.model.DeathCause;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Punto de entrada para ejecutar partidas simuladas sin interfaz gráfica.
+ * Pensado para servidores sin pantalla: fija {@code java.awt.headless=true}
+ * y no crea ningún componente de Swing.
+ *
+ * Uso: {@code java -cp out snake.headless.HeadlessMain [partidas] [ticksMaximos] [semilla] [hilos]}
+ *
+ * Con la misma semilla, la huella de resultados es la misma para cualquier número de hilos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class HeadlessMain {
+    private static final int DEFAULT_GAMES = 1000;
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+    private static final long DEFAULT_SEED = 42;
+
+    /**
+     * Punto de entrada de la simulación.
+     *
+     * @param args partidas, máximo de ticks por partida, semilla y número de hilos (opcionales)
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_TICKS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ParallelGameRunner runner = new ParallelGameRunner(pool, GreedyInputSource::new, maxTicks);
+        GameRunResults results = new GameRunResults(games);
+
+        long start = System.nanoTime();
+        GameRunResults.Summary summary = runner.run(games, seed, results);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.println("Partidas simuladas: " + summary.getGames() + " (" + threads + " hilos)");
+        System.out.println("Ticks totales: " + summary.getTotalTicks());
+        System.out.printf("Tiempo: %.3f s%n", seconds);
+        System.out.printf("Ticks por segundo: %.0f%n", summary.getTotalTicks() / seconds);
+        System.out.printf("Puntuación media: %.1f (máxima %d)%n",
+                (double) summary.getTotalScore() / games, summary.getMaxScore());
+        System.out.println("Muertes contra pared: " + summary.getDeathCount(DeathCause.WALL)
+                + ", contra sí misma: " + summary.getDeathCount(DeathCause.SELF)
+                + ", sin terminar: " + summary.getDeathCount(DeathCause.NONE));
+        System.out.printf("Huella de resultados: %016x%n", results.checksum());
+    }
+}
@@ -0,0 +1,27 @@
+package snake.headless;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+
+/**
+ * Fuente de entradas para partidas ejecutadas sin interfaz gráfica.
+ *
+ * PATRÓN: Strategy
+ * InputSource reemplaza al teclado del GameController cuando el juego se ejecuta
+ * con HeadlessEngine. Permite conectar bots, repeticiones grabadas o cualquier
+ * otra fuente de direcciones sin modificar el motor.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public interface InputSource {
+
+    /**
+     * Decide la dirección a aplicar antes del siguiente tick.
+     *
+     * @param model el modelo del juego, en el estado previo al tick
+     * @param tick el número de tick que está por ejecutarse (empezando en 0)
+     * @return la nueva dirección, o null para mantener la actual
+     */
+    Direction nextDirection(GameModel model, long tick);
+}
@@ -0,0 +1,106 @@
+package snake.headless;
+
+import snake.model.GameModel;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta un lote grande de partidas sin interfaz repartidas en un ForkJoinPool.
+ *
+ * Reproducibilidad: las partidas se dividen en un árbol de tareas cuya forma depende
+ * solo del número de partidas. Cada división toma un SplittableRandom con split(), y
+ * cada partida recibe su propio split del generador de su hoja. Así cada partida
+ * obtiene siempre la misma semilla, y los resultados son idénticos bit a bit sin
+ * importar cuántos hilos tenga el pool ni el orden en que se ejecuten las tareas.
+ *
+ * Cada tarea escribe en sus propios índices de GameRunResults y devuelve un resumen
+ * parcial que se combina al unir las tareas, sin contadores compartidos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ParallelGameRunner {
+    private static final int GAMES_PER_LEAF = 64;
+
+    private final ForkJoinPool pool;
+    private final Supplier<InputSource> inputSourceFactory;
+    private final long maxTicksPerGame;
+
+    /**
+     * Crea un nuevo ejecutor de partidas.
+     *
+     * @param pool el pool donde se ejecutan las partidas
+     * @param inputSourceFactory crea la fuente de entrada de cada partida
+     * @param maxTicksPerGame ticks máximos antes de detener una partida
+     */
+    public ParallelGameRunner(ForkJoinPool pool, Supplier<InputSource> inputSourceFactory, long maxTicksPerGame) {
+        this.pool = pool;
+        this.inputSourceFactory = inputSourceFactory;
+        this.maxTicksPerGame = maxTicksPerGame;
+    }
+
+    /**
+     * Ejecuta las partidas y espera sus resultados.
+     *
+     * @param games número de partidas
+     * @param masterSeed semilla maestra de todo el lote
+     * @param results dónde guardar el resultado de cada partida
+     * @return los totales del lote
+     */
+    public GameRunResults.Summary run(int games, long masterSeed, GameRunResults results) {
+        if (results.getGameCount() < games) {
+            throw new IllegalArgumentException("Resultados para " + results.getGameCount() + " partidas, se piden " + games);
+        }
+        return pool.invoke(new RunTask(0, games, new SplittableRandom(masterSeed), results));
+    }
+
+    /**
+     * Tarea que ejecuta el rango de partidas [from, to).
+     */
+    private class RunTask extends RecursiveTask<GameRunResults.Summary> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+        private final GameRunResults results;
+
+        RunTask(int from, int to, SplittableRandom random, GameRunResults results) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.results = results;
+        }
+
+        @Override
+        protected GameRunResults.Summary compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                return runLeaf();
+            }
+            int middle = (from + to) >>> 1;
+            RunTask left = new RunTask(from, middle, random.split(), results);
+            RunTask right = new RunTask(middle, to, random, results);
+            left.fork();
+            GameRunResults.Summary rightSummary = right.compute();
+            return left.join().combine(rightSummary);
+        }
+
+        private GameRunResults.Summary runLeaf() {
+            GameRunResults.Summary summary = new GameRunResults.Summary();
+            for (int game = from; game < to; game++) {
+                GameModel model = new GameModel(random.split());
+                HeadlessEngine engine = new HeadlessEngine(model, inputSourceFactory.get());
+                engine.runUntilGameOver(maxTicksPerGame);
+
+                int score = model.getScore();
+                int length = model.getSnake().getLength();
+                results.record(game, score, length, model.getTickCount(), model.getDeathCause());
+                summary.add(score, length, model.getTickCount(), model.getDeathCause());
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package snake.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Métricas de rendimiento del juego en ejecución.
+ *
+ * PATRÓN: Singleton
+ * Hay una única instancia por proceso, compartida por el modelo (ticks, comida,
+ * observadores, latencia de entrada), el controlador (desfase del temporizador) y la vista (pintado), y
+ * publicada por JMX para consultarla con JConsole o VisualVM sin detener el juego.
+ *
+ * Registrar una medición no reserva memoria ni toma bloqueos, así que puede llamarse
+ * desde el bucle del juego y desde el hilo de Swing.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    /**
+     * Nombre con el que se registra el MXBean.
+     */
+    public static final String OBJECT_NAME = "snake:type=GameMetrics";
+
+    private static GameMetrics instance;
+
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+    private final LatencyHistogram foodSpawnLatency = new LatencyHistogram();
+    private final LatencyHistogram observerDispatchLatency = new LatencyHistogram();
+    private final LatencyHistogram paintLatency = new LatencyHistogram();
+    private final LatencyHistogram timerJitter = new LatencyHistogram();
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    private final RateMeter tickRate = new RateMeter();
+    private final RateMeter frameRate = new RateMeter();
+    private boolean registered;
+
+    /**
+     * Constructor privado para el patrón Singleton.
+     */
+    private GameMetrics() {
+    }
+
+    /**
+     * Obtiene la instancia singleton de GameMetrics.
+     *
+     * @return la instancia singleton
+     */
+    public static synchronized GameMetrics getInstance() {
+        if (instance == null) {
+            instance = new GameMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Publica las métricas en el servidor de MBeans de la plataforma.
+     * Llamarlo más de una vez no tiene efecto.
+     */
+    public synchronized void registerMBean() {
+        if (registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+            registered = true;
+        } catch (InstanceAlreadyExistsException e) {
+            registered = true;
+        } catch (JMException e) {
+            System.err.println("No se pudieron publicar las métricas por JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registra la duración de un tick del modelo.
+     *
+     * @param nanos duración en nanosegundos
+     */
+    public void recordTick(long nanos) {
+        tickLatency.record(nanos);
+        tickRate.mark();
+    }
+
+    /**
+     * Registra la duración de una generación de comida.
+     *
+     * @param nanos duración en nanosegundos
+     */
+    public void recordFoodSpawn(long nanos) {
+        foodSpawnLatency.record(nanos);
+    }
+
+    /**
+     * Registra la duración de una notificación a los observadores.
+     *
+     * @param nanos duración en nanosegundos
+     */
+    public void recordObserverDispatch(long nanos) {
+        observerDispatchLatency.record(nanos);
+    }
+
+    /**
+     * Registra la duración del pintado de un cuadro. Con el repintado incremental, el
+     * cuadro son todas las celdas que cambian en un tick, no cada celda por separado.
+     *
+     * @param nanos duración en nanosegundos
+     */
+    public void recordPaint(long nanos) {
+        paintLatency.record(nanos);
+        frameRate.mark();
+    }
+
+    /**
+     * Registra cuánto se desvió un tick del momento en que debía ejecutarse.
+     *
+     * @param nanos desviación absoluta en nanosegundos
+     */
+    public void recordTimerJitter(long nanos) {
+        timerJitter.record(nanos);
+    }
+
+    /**
+     * Registra el tiempo entre una pulsación y el tick que la consumió.
+     *
+     * @param nanos latencia en nanosegundos
+     */
+    public void recordInputLatency(long nanos) {
+        inputLatency.record(nanos);
+    }
+
+    @Override
+    public LatencySnapshot getTickLatency() {
+        return tickLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFoodSpawnLatency() {
+        return foodSpawnLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getObserverDispatchLatency() {
+        return observerDispatchLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getPaintLatency() {
+        return paintLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getTimerJitter() {
+        return timerJitter.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getInputLatency() {
+        return inputLatency.snapshot();
+    }
+
+    @Override
+    public long getTicksPerSecond() {
+        return tickRate.getRatePerSecond();
+    }
+
+    @Override
+    public long getFramesPerSecond() {
+        return frameRate.getRatePerSecond();
+    }
+
+    @Override
+    public long getTotalTicks() {
+        return tickRate.getTotal();
+    }
+
+    @Override
+    public long getTotalFrames() {
+        return frameRate.getTotal();
+    }
+
+    @Override
+    public void reset() {
+        tickLatency.reset();
+        foodSpawnLatency.reset();
+        observerDispatchLatency.reset();
+        paintLatency.reset();
+        timerJitter.reset();
+        inputLatency.reset();
+    }
+}
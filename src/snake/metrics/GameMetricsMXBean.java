@@ -0,0 +1,66 @@
+package snake.metrics;
+
+/**
+ * Interfaz de gestión de las métricas del juego, publicada por JMX como
+ * {@value GameMetrics#OBJECT_NAME}.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Duración de GameModel.update(), incluidos los observadores.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getTickLatency();
+
+    /**
+     * Duración de la generación de comida tras comer.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getFoodSpawnLatency();
+
+    /**
+     * Duración de cada notificación a los observadores del modelo.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getObserverDispatchLatency();
+
+    /**
+     * Duración del pintado de GamePanel.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getPaintLatency();
+
+    /**
+     * Retraso con que empieza cada tick respecto de su instante programado.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getTimerJitter();
+
+    /**
+     * Tiempo entre cada pulsación de dirección y el tick que la consumió.
+     *
+     * @return resumen de latencias
+     */
+    LatencySnapshot getInputLatency();
+
+    long getTicksPerSecond();
+
+    long getFramesPerSecond();
+
+    long getTotalTicks();
+
+    long getTotalFrames();
+
+    /**
+     * Vacía todos los histogramas.
+     */
+    void reset();
+}
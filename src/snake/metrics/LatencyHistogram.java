@@ -0,0 +1,133 @@
+package snake.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias de alto rango dinámico y sin bloqueos.
+ *
+ * Los valores (en nanosegundos) se agrupan en cubetas log-lineales: cada potencia de
+ * dos se divide en 32 sub-cubetas, así que cualquier valor entre 0 y 2^62 ns se
+ * guarda con un error relativo menor al 3,2 % en un arreglo fijo de contadores.
+ * record() solo hace incrementos atómicos, no reserva memoria y puede llamarse desde
+ * varios hilos a la vez. Las lecturas son aproximadas mientras se sigue registrando.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra una medición.
+     *
+     * @param nanos la duración en nanosegundos (los valores negativos cuentan como 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Calcula la cubeta de un valor: exacta por debajo de 32 y, por encima, los
+     * 5 bits siguientes al bit más alto indican la sub-cubeta dentro de su potencia de dos.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Obtiene el mayor valor que cae en una cubeta.
+     */
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Obtiene el valor por debajo del cual cae la fracción indicada de las mediciones.
+     *
+     * @param quantile la fracción, entre 0 y 1 (por ejemplo 0.99)
+     * @return el percentil en nanosegundos, o 0 si no hay mediciones
+     */
+    public long getValueAtQuantile(double quantile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Obtiene la media de las mediciones.
+     *
+     * @return la media en nanosegundos, o 0 si no hay mediciones
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0.0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Crea un resumen inmutable con los percentiles habituales.
+     *
+     * @return el resumen actual
+     */
+    public LatencySnapshot snapshot() {
+        return new LatencySnapshot(getCount(), (long) getMean(),
+                getValueAtQuantile(0.50), getValueAtQuantile(0.90),
+                getValueAtQuantile(0.99), getValueAtQuantile(0.999), getMax());
+    }
+
+    /**
+     * Vacía el histograma. Las mediciones concurrentes con el vaciado pueden perderse.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+}
@@ -0,0 +1,69 @@
+package snake.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Resumen inmutable de un LatencyHistogram. Todos los tiempos están en nanosegundos.
+ *
+ * JMX lo expone como un CompositeData a través de GameMetricsMXBean, así que
+ * cualquier consola (JConsole, VisualVM) puede leerlo sin las clases del juego.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class LatencySnapshot {
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    @ConstructorProperties({"count", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "p999Nanos", "maxNanos"})
+    public LatencySnapshot(long count, long meanNanos, long p50Nanos, long p90Nanos,
+                           long p99Nanos, long p999Nanos, long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d media=%.1fµs p50=%.1fµs p99=%.1fµs p99.9=%.1fµs max=%.1fµs",
+                count, meanNanos / 1000.0, p50Nanos / 1000.0, p99Nanos / 1000.0,
+                p999Nanos / 1000.0, maxNanos / 1000.0);
+    }
+}
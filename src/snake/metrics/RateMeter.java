@@ -0,0 +1,71 @@
+package snake.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de eventos por segundo sin bloqueos.
+ *
+ * Cuenta los eventos del segundo en curso en un único long que empaqueta el número
+ * de segundo (32 bits altos) y el contador (32 bits bajos), de modo que cambiar de
+ * segundo es una sola operación compareAndSet. La tasa publicada es la del último
+ * segundo completo.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class RateMeter {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final long origin = System.nanoTime();
+    private final AtomicLong current = new AtomicLong();
+    private final AtomicLong previous = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * Registra un evento.
+     */
+    public void mark() {
+        total.incrementAndGet();
+        long second = currentSecond();
+        while (true) {
+            long state = current.get();
+            if ((state >>> 32) == second) {
+                if (current.compareAndSet(state, state + 1)) {
+                    return;
+                }
+            } else if (current.compareAndSet(state, (second << 32) | 1)) {
+                previous.set(state);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de eventos del último segundo completo.
+     *
+     * @return eventos por segundo
+     */
+    public long getRatePerSecond() {
+        long lastSecond = currentSecond() - 1;
+        long state = current.get();
+        if ((state >>> 32) == lastSecond) {
+            return state & COUNT_MASK;
+        }
+        long last = previous.get();
+        return (last >>> 32) == lastSecond ? last & COUNT_MASK : 0;
+    }
+
+    /**
+     * Obtiene el total de eventos registrados.
+     *
+     * @return eventos totales
+     */
+    public long getTotal() {
+        return total.get();
+    }
+
+    private long currentSecond() {
+        return (System.nanoTime() - origin) / NANOS_PER_SECOND;
+    }
+}
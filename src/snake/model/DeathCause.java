@@ -0,0 +1,34 @@
+package snake.model;
+
+/**
+ * Enumeración que representa el motivo por el que terminó una partida.
+ * 
+ * @author Snake Game
+ * @version 1.0
+ */
+public enum DeathCause {
+    /**
+     * La partida no ha terminado por colisión (sigue en curso o se detuvo antes).
+     */
+    NONE,
+    
+    /**
+     * La cabeza salió de la cuadrícula.
+     */
+    WALL,
+    
+    /**
+     * La cabeza chocó con el propio cuerpo.
+     */
+    SELF,
+    
+    /**
+     * La cabeza chocó con el cuerpo de otra serpiente (modo arena).
+     */
+    OTHER_SNAKE,
+    
+    /**
+     * Dos o más cabezas intentaron entrar en la misma celda (modo arena).
+     */
+    HEAD_ON
+}
@@ -1,16 +1,29 @@
 package snake.model;
 
 import snake.config.GameConfig;
+import snake.metrics.GameMetrics;
+import snake.model.composite.RingBufferSnakeBody;
+import snake.model.composite.SnakeBody;
 import snake.model.composite.SnakeBodyComposite;
 import snake.model.factory.*;
+import snake.model.grid.FreeCellIndex;
+import snake.model.grid.PositionCache;
+import snake.model.input.InputQueue;
+import snake.model.observer.BackpressurePolicy;
+import snake.model.observer.GameDelta;
+import snake.model.observer.GameEvent;
+import snake.model.observer.GameEventBus;
 import snake.model.observer.GameObserver;
 import snake.model.observer.GameSubject;
+import snake.model.observer.TickObserver;
+import snake.model.snapshot.SnapshotPublisher;
 import snake.model.strategy.MovementStrategy;
 import snake.model.strategy.NormalSpeed;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
 
 /**
  * Modelo principal del juego que contiene toda la lógica y estado del juego.
@@ -21,32 +34,83 @@ import java.util.Random;
  * a las Vistas de cambios de estado. También actúa como el Contexto para el
  * patrón Strategy, usando implementaciones intercambiables de MovementStrategy.
  * 
+ * Cada tick o acción (pausa, reinicio) publica un único GameEvent con todo lo que
+ * cambió, incluido un GameDelta con las celdas afectadas, a través de un
+ * GameEventBus, que notifica a los observadores síncronos en este hilo y deja el
+ * evento en el buzón de los asíncronos.
+ * 
  * @author Snake Game
  * @version 1.0
  */
 public class GameModel implements GameSubject {
+    /**
+     * Número máximo de celdas para mantener un índice de celdas libres. Por encima,
+     * el índice ocuparía cientos de MB y la comida se genera por muestreo.
+     */
+    public static final long MAX_INDEXED_CELLS = 1L << 22;
+
+    private static final int MAX_SAMPLING_ATTEMPTS = 64;
+    private static final int INPUT_QUEUE_CAPACITY = 64;
+
     private final GameConfig config;
-    private final List<GameObserver> observers;
-    private final Random random;
+    private final GameEventBus events;
+    private final List<TickObserver> tickObservers;
+    private final SplittableRandom seedSource;
+    private SplittableRandom random;
+    private long gameSeed;
+    private final FreeCellIndex freeCells;
+    private final PositionCache positionCache;
+    private final InputQueue inputQueue;
     
-    private SnakeBodyComposite snake;
+    private SnakeBody snake;
     private Food currentFood;
     private Direction currentDirection;
     private Direction nextDirection;
     private GameState gameState;
-    private MovementStrategy movementStrategy;
+    private volatile MovementStrategy movementStrategy;
     private int score;
+    private long tickCount;
+    private long deltaSequence;
+    private DeathCause deathCause;
+    private GameMetrics metrics;
+    private SnapshotPublisher snapshots;
     
     private final FoodFactory normalFoodFactory;
     private final FoodFactory bonusFoodFactory;
 
     /**
-     * Crea un nuevo GameModel con configuración predeterminada.
+     * Crea un nuevo GameModel con configuración predeterminada y semilla aleatoria.
      */
     public GameModel() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Crea un nuevo GameModel reproducible a partir de una semilla.
+     * 
+     * @param seed la semilla de la que se derivan las semillas de cada partida
+     */
+    public GameModel(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Crea un nuevo GameModel que deriva la semilla de cada partida del generador dado.
+     * Pensado para recibir un generador obtenido con {@link SplittableRandom#split()},
+     * de modo que muchos modelos puedan ejecutarse en paralelo de forma reproducible.
+     * 
+     * @param seedSource el generador de semillas de partida
+     */
+    public GameModel(SplittableRandom seedSource) {
         this.config = GameConfig.getInstance();
-        this.observers = new ArrayList<>();
-        this.random = new Random();
+        this.events = new GameEventBus();
+        this.tickObservers = new ArrayList<>();
+        this.seedSource = seedSource;
+        this.freeCells = (long) config.getGridWidth() * config.getGridHeight() <= MAX_INDEXED_CELLS
+                ? new FreeCellIndex(config.getGridWidth(), config.getGridHeight())
+                : null;
+        this.positionCache = new PositionCache(config.getGridWidth(), config.getGridHeight());
+        this.inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY);
         this.normalFoodFactory = new NormalFoodFactory();
         this.bonusFoodFactory = new BonusFoodFactory();
         this.movementStrategy = new NormalSpeed();
@@ -56,24 +120,72 @@ public class GameModel implements GameSubject {
 
     /**
      * Inicializa o reinicia el juego a su estado inicial.
+     * Cada partida usa una nueva semilla tomada del generador del modelo.
      */
     public void initializeGame() {
+        initializeGame(seedSource.nextLong());
+    }
+
+    /**
+     * Inicializa o reinicia el juego con una semilla de partida concreta.
+     * Dos partidas con la misma semilla y las mismas entradas son idénticas.
+     * 
+     * @param gameSeed la semilla de la partida
+     */
+    public void initializeGame(long gameSeed) {
+        GameState previousState = gameState;
+        this.gameSeed = gameSeed;
+        this.random = new SplittableRandom(gameSeed);
+        
         int startX = config.getGridWidth() / 2;
         int startY = config.getGridHeight() / 2;
         
-        this.snake = new SnakeBodyComposite(new Position(startX, startY));
+        this.snake = createSnake(positionCache.get(startX, startY));
         
         for (int i = 1; i < config.getInitialSnakeLength(); i++) {
             snake.grow();
         }
+
+        if (freeCells != null) {
+            freeCells.reset();
+            for (Position position : snake.getAllPositions()) {
+                freeCells.remove(position.getX(), position.getY());
+            }
+        }
         
         this.currentDirection = Direction.RIGHT;
         this.nextDirection = Direction.RIGHT;
+        inputQueue.clear();
         this.score = 0;
+        this.tickCount = 0;
+        this.deathCause = DeathCause.NONE;
         this.gameState = GameState.RUNNING;
         
+        for (int i = 0; i < tickObservers.size(); i++) {
+            tickObservers.get(i).onGameStarted(gameSeed);
+        }
+        
         spawnFood();
-        notifyObservers();
+        publishSnapshot();
+        publishEvent(GameEvent.UPDATED, events.hasObservers()
+                ? GameDelta.reset(++deltaSequence, gameSeed, currentFood, previousState, gameState)
+                : null);
+    }
+
+    /**
+     * Crea el cuerpo de la serpiente según la implementación configurada.
+     * 
+     * @param headPosition la posición inicial de la cabeza
+     * @return el nuevo cuerpo de la serpiente
+     */
+    private SnakeBody createSnake(Position headPosition) {
+        switch (config.getSnakeBodyType()) {
+            case COMPOSITE:
+                return new SnakeBodyComposite(headPosition);
+            case RING_BUFFER:
+            default:
+                return new RingBufferSnakeBody(headPosition, positionCache);
+        }
     }
 
     /**
@@ -84,36 +196,155 @@ public class GameModel implements GameSubject {
         if (gameState != GameState.RUNNING) {
             return;
         }
+        long start = metrics != null ? System.nanoTime() : 0L;
+        advance();
+        if (metrics != null) {
+            metrics.recordTick(System.nanoTime() - start);
+        }
+    }
 
+    /**
+     * Ejecuta las reglas de un tick: movimiento, colisiones, comida y notificaciones.
+     */
+    private void advance() {
+        tickCount++;
+        applyQueuedInput();
         currentDirection = nextDirection;
+        for (int i = 0; i < tickObservers.size(); i++) {
+            tickObservers.get(i).onTick(currentDirection);
+        }
+        Position previousTail = snake.getTail();
+        Food previousFood = currentFood;
         snake.move(currentDirection);
+        updateFreeCells(previousTail);
 
         if (checkCollisions()) {
             gameState = GameState.GAME_OVER;
-            notifyGameOver();
+            publishSnapshot();
+            publishEvent(GameEvent.GAME_OVER, moveDelta(previousTail, previousFood, 0));
             return;
         }
 
-        if (snake.getHead().getPosition().equals(currentFood.getPosition())) {
-            score += currentFood.getPoints();
-            snake.grow();
+        int points = 0;
+        if (currentFood != null && snake.getHead().getPosition().equals(currentFood.getPosition())) {
+            points = currentFood.getPoints();
+            score += points;
+            growSnake();
+            long spawnStart = metrics != null ? System.nanoTime() : 0L;
             spawnFood();
-            notifyScoreChanged();
+            if (metrics != null) {
+                metrics.recordFoodSpawn(System.nanoTime() - spawnStart);
+            }
+        }
+
+        publishSnapshot();
+        publishEvent(points > 0 ? GameEvent.SCORE_CHANGED | GameEvent.UPDATED : GameEvent.UPDATED,
+                moveDelta(previousTail, previousFood, points));
+    }
+
+    /**
+     * Prepara el delta de un tick con movimiento, o devuelve null si nadie observa el
+     * modelo. La cola libera su celda salvo que siga ocupada por el segmento duplicado
+     * de un crecimiento; si la ocupa la nueva cabeza, la cola también la liberó.
+     */
+    private GameDelta moveDelta(Position previousTail, Food previousFood, int points) {
+        if (!events.hasObservers()) {
+            return null;
+        }
+        Position head = snake.getHead().getPosition();
+        boolean tailRemoved = head.equals(previousTail) || !snake.occupies(previousTail);
+        return GameDelta.move(++deltaSequence, gameSeed, tickCount, head.getX(), head.getY(),
+                tailRemoved ? previousTail.getX() : GameDelta.NO_CELL,
+                tailRemoved ? previousTail.getY() : GameDelta.NO_CELL,
+                previousFood, currentFood, points, score, GameState.RUNNING, gameState);
+    }
+
+    /**
+     * Prepara el delta de un cambio sin movimiento, o devuelve null si nadie observa el
+     * modelo.
+     */
+    private GameDelta stateDelta(GameState previousState) {
+        if (!events.hasObservers()) {
+            return null;
+        }
+        return GameDelta.stateChange(++deltaSequence, gameSeed, tickCount, currentFood, score,
+                previousState, gameState);
+    }
+
+    /**
+     * Toma de la cola de entrada la primera pulsación que cambia la dirección: una por
+     * tick, de modo que un giro en U rápido se reparte en dos ticks. Las pulsaciones
+     * que no cambiarían nada (la dirección actual o la opuesta, como la repetición
+     * automática de una tecla mantenida) se consumen en el mismo tick. Con métricas,
+     * registra la latencia de cada pulsación hasta el tick que la consume.
+     */
+    private void applyQueuedInput() {
+        if (inputQueue.isEmpty()) {
+            return;
+        }
+        long now = metrics != null ? System.nanoTime() : 0L;
+        while (!inputQueue.isEmpty()) {
+            Direction direction = inputQueue.peekDirection();
+            if (metrics != null) {
+                metrics.recordInputLatency(now - inputQueue.peekTimestamp());
+            }
+            inputQueue.remove();
+            if (direction != currentDirection && !direction.isOpposite(currentDirection)) {
+                nextDirection = direction;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Actualiza el índice de celdas libres después de mover la serpiente.
+     * La nueva cabeza deja de estar libre y la cola anterior queda libre
+     * solo si ningún otro segmento la sigue ocupando (por ejemplo, tras crecer).
+     * 
+     * @param previousTail la posición de la cola antes del movimiento
+     */
+    private void updateFreeCells(Position previousTail) {
+        if (freeCells == null) {
+            return;
         }
+        Position headPos = snake.getHead().getPosition();
+        freeCells.remove(headPos.getX(), headPos.getY());
+        if (!snake.occupies(previousTail)) {
+            freeCells.add(previousTail.getX(), previousTail.getY());
+        }
+    }
 
-        notifyObservers();
+    /**
+     * Hace crecer la serpiente y mantiene el índice de celdas libres.
+     * El nuevo segmento se superpone con la cola, así que normalmente no cambia
+     * ninguna celda.
+     */
+    private void growSnake() {
+        snake.grow();
+        if (freeCells != null) {
+            Position tail = snake.getTail();
+            freeCells.remove(tail.getX(), tail.getY());
+        }
     }
 
     /**
-     * Genera un nuevo elemento de comida en una posición aleatoria no ocupada.
+     * Genera un nuevo elemento de comida en una celda libre elegida de manera uniforme.
+     * Usa el índice de celdas libres, por lo que cuesta O(1) aunque el tablero esté
+     * casi lleno. En tableros sin índice elige por muestreo. Si no quedan celdas
+     * libres, no se genera comida.
      */
     private void spawnFood() {
         Position foodPosition;
-        do {
-            int x = random.nextInt(config.getGridWidth());
-            int y = random.nextInt(config.getGridHeight());
-            foodPosition = new Position(x, y);
-        } while (snake.occupies(foodPosition));
+        if (freeCells != null) {
+            int cell = freeCells.randomFreeCell(random);
+            foodPosition = cell >= 0 ? positionCache.getCell(cell) : null;
+        } else {
+            foodPosition = sampleFreeCell();
+        }
+        if (foodPosition == null) {
+            currentFood = null;
+            return;
+        }
 
         FoodFactory factory = random.nextDouble() < config.getBonusFoodChance()
                 ? bonusFoodFactory : normalFoodFactory;
@@ -122,7 +353,36 @@ public class GameModel implements GameSubject {
     }
 
     /**
-     * Verifica colisiones con paredes y con uno mismo.
+     * Elige una celda libre por muestreo con rechazo, para tableros enormes sin índice
+     * de celdas libres. Allí la serpiente ocupa una fracción mínima del tablero, así que
+     * casi siempre acierta al primer intento. Si agota los intentos, recorre el tablero
+     * desde una celda aleatoria y toma la primera libre.
+     * 
+     * @return la celda libre, o null si el tablero está lleno
+     */
+    private Position sampleFreeCell() {
+        int width = config.getGridWidth();
+        int height = config.getGridHeight();
+        for (int attempt = 0; attempt < MAX_SAMPLING_ATTEMPTS; attempt++) {
+            Position candidate = positionCache.get(random.nextInt(width), random.nextInt(height));
+            if (!snake.occupies(candidate)) {
+                return candidate;
+            }
+        }
+        long cells = (long) width * height;
+        long start = random.nextLong(cells);
+        for (long i = 0; i < cells; i++) {
+            long cell = (start + i) % cells;
+            Position candidate = positionCache.get((int) (cell % width), (int) (cell / width));
+            if (!snake.occupies(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifica colisiones con paredes y con uno mismo, y registra la causa.
      * 
      * @return true si ocurrió una colisión
      */
@@ -131,10 +391,15 @@ public class GameModel implements GameSubject {
 
         if (headPos.getX() < 0 || headPos.getX() >= config.getGridWidth() ||
             headPos.getY() < 0 || headPos.getY() >= config.getGridHeight()) {
+            deathCause = DeathCause.WALL;
             return true;
         }
 
-        return snake.hasSelfCollision();
+        if (snake.hasSelfCollision()) {
+            deathCause = DeathCause.SELF;
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -149,16 +414,29 @@ public class GameModel implements GameSubject {
         }
     }
 
+    /**
+     * Obtiene la cola de pulsaciones de dirección. El hilo de entrada (el EDT) es su
+     * único productor y el modelo la consume al empezar cada tick. Las simulaciones
+     * sin interfaz pueden seguir usando {@link #setDirection(Direction)}.
+     * 
+     * @return la cola de entrada
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
     /**
      * Alterna entre estados RUNNING y PAUSED.
      */
     public void togglePause() {
+        GameState previousState = gameState;
         if (gameState == GameState.RUNNING) {
             gameState = GameState.PAUSED;
         } else if (gameState == GameState.PAUSED) {
             gameState = GameState.RUNNING;
         }
-        notifyObservers();
+        publishSnapshot();
+        publishEvent(GameEvent.UPDATED, stateDelta(previousState));
     }
 
     /**
@@ -170,7 +448,7 @@ public class GameModel implements GameSubject {
         this.movementStrategy = strategy;
     }
 
-    public SnakeBodyComposite getSnake() {
+    public SnakeBody getSnake() {
         return snake;
     }
 
@@ -194,34 +472,161 @@ public class GameModel implements GameSubject {
         return currentDirection;
     }
 
+    /**
+     * Obtiene la semilla de la partida actual.
+     * 
+     * @return la semilla usada en el último initializeGame
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Obtiene el número de ticks ejecutados en la partida actual.
+     * 
+     * @return ticks de la partida
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Obtiene la causa de fin de la partida actual.
+     * 
+     * @return la causa, o NONE si la partida no terminó por colisión
+     */
+    public DeathCause getDeathCause() {
+        return deathCause;
+    }
+
     @Override
     public void registerObserver(GameObserver observer) {
-        if (!observers.contains(observer)) {
-            observers.add(observer);
+        events.register(observer);
+    }
+
+    @Override
+    public void registerObserver(GameObserver observer, Executor executor, BackpressurePolicy policy, int capacity) {
+        events.register(observer, executor, policy, capacity);
+    }
+
+    /**
+     * Registra una vista como observador asíncrono con la política y la capacidad de
+     * la configuración ({@code snake.events.policy} y {@code snake.events.capacity}).
+     * 
+     * @param observer la vista
+     * @param executor dónde se ejecutan sus notificaciones, normalmente el EDT
+     */
+    public void registerViewObserver(GameObserver observer, Executor executor) {
+        registerObserver(observer, executor, toBackpressurePolicy(config.getViewEventPolicy()),
+                config.getViewEventCapacity());
+    }
+
+    private static BackpressurePolicy toBackpressurePolicy(GameConfig.ViewEventPolicy policy) {
+        switch (policy) {
+            case DROP_OLDEST:
+                return BackpressurePolicy.DROP_OLDEST;
+            case COALESCE:
+            default:
+                return BackpressurePolicy.COALESCE;
         }
     }
 
     @Override
     public void removeObserver(GameObserver observer) {
-        observers.remove(observer);
+        events.remove(observer);
     }
 
-    @Override
-    public void notifyObservers() {
-        for (GameObserver observer : observers) {
-            observer.onGameUpdated();
+    /**
+     * Obtiene el bus que reparte los eventos entre los observadores.
+     * 
+     * @return el bus de eventos
+     */
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Registra un observador síncrono de ticks (por ejemplo, un grabador de repeticiones).
+     * 
+     * @param observer el observador a registrar
+     */
+    public void registerTickObserver(TickObserver observer) {
+        if (!tickObservers.contains(observer)) {
+            tickObservers.add(observer);
         }
     }
 
-    private void notifyGameOver() {
-        for (GameObserver observer : observers) {
-            observer.onGameOver(score);
+    /**
+     * Elimina un observador de ticks.
+     * 
+     * @param observer el observador a eliminar
+     */
+    public void removeTickObserver(TickObserver observer) {
+        tickObservers.remove(observer);
+    }
+
+    /**
+     * Activa la medición de tiempos de tick, comida y observadores.
+     * Sin métricas (el caso por defecto, y el de las simulaciones sin interfaz)
+     * el modelo no consulta el reloj.
+     * 
+     * @param metrics dónde registrar las mediciones, o null para desactivarlas
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Obtiene el publicador de fotos del estado, activándolo en la primera llamada.
+     * A partir de entonces el modelo publica una foto inmutable antes de notificar a
+     * los observadores en cada cambio, para que vistas y grabadores puedan leerla desde
+     * cualquier hilo. Sin publicador (el caso de las simulaciones sin interfaz) no se
+     * copia nada. Debe llamarse desde el hilo que actualiza el modelo.
+     * 
+     * @return el publicador de fotos
+     */
+    public SnapshotPublisher getSnapshots() {
+        if (snapshots == null) {
+            snapshots = new SnapshotPublisher();
+            snapshots.publish(this);
         }
+        return snapshots;
     }
 
-    private void notifyScoreChanged() {
-        for (GameObserver observer : observers) {
-            observer.onScoreChanged(score);
+    /**
+     * Publica la foto del estado actual, si hay publicador.
+     */
+    private void publishSnapshot() {
+        if (snapshots != null) {
+            snapshots.publish(this);
+        }
+    }
+
+    /**
+     * Obtiene la tabla de posiciones compartidas de la cuadrícula.
+     * 
+     * @return la tabla de posiciones
+     */
+    public PositionCache getPositionCache() {
+        return positionCache;
+    }
+
+    @Override
+    public void notifyObservers() {
+        publishEvent(GameEvent.UPDATED, stateDelta(gameState));
+    }
+
+    /**
+     * Publica en un único evento todo lo que cambió en el tick o acción actual.
+     */
+    private void publishEvent(int flags, GameDelta delta) {
+        if (delta == null) {
+            return;
+        }
+        long start = metrics != null ? System.nanoTime() : 0L;
+        events.publish(flags, delta);
+        if (metrics != null) {
+            metrics.recordObserverDispatch(System.nanoTime() - start);
         }
     }
 }
@@ -1,11 +1,13 @@
 package snake.model;
 
-import java.util.Objects;
-
 /**
  * Clase inmutable que representa una posición en la cuadrícula del juego.
  * Usa coordenadas de cuadrícula (no coordenadas de píxeles) para la lógica del juego.
  * 
+ * Para las rutas críticas del modelo, una posición también puede representarse
+ * empaquetada en un {@code long} (ver {@link #pack(int, int)}), y las instancias
+ * compartidas de una cuadrícula se obtienen de {@link snake.model.grid.PositionCache}.
+ * 
  * @author Snake Game
  * @version 1.0
  */
@@ -52,6 +54,47 @@ public class Position {
         return new Position(x + direction.getDeltaX(), y + direction.getDeltaY());
     }
 
+    /**
+     * Empaqueta esta posición en un {@code long}.
+     * 
+     * @return la posición empaquetada
+     */
+    public long pack() {
+        return pack(x, y);
+    }
+
+    /**
+     * Empaqueta unas coordenadas en un {@code long}: X en los 32 bits altos
+     * e Y en los 32 bits bajos. Admite coordenadas negativas.
+     * 
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return las coordenadas empaquetadas
+     */
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Obtiene la coordenada X de una posición empaquetada.
+     * 
+     * @param packed la posición empaquetada
+     * @return la coordenada X
+     */
+    public static int unpackX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Obtiene la coordenada Y de una posición empaquetada.
+     * 
+     * @param packed la posición empaquetada
+     * @return la coordenada Y
+     */
+    public static int unpackY(long packed) {
+        return (int) packed;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -62,7 +105,7 @@ public class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     @Override
@@ -0,0 +1,296 @@
+package snake.model.composite;
+
+import snake.model.Direction;
+import snake.model.Position;
+import snake.model.grid.OccupancyGrid;
+import snake.model.grid.PositionCache;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del cuerpo de la serpiente respaldada por un buffer circular.
+ *
+ * PATRÓN: Composite (Nodo Compuesto)
+ * RingBufferSnakeBody ofrece el mismo contrato que SnakeBodyComposite, pero en lugar
+ * de desplazar cada segmento en cada tick, mover la serpiente consiste en insertar una
+ * nueva cabeza al frente del buffer y descartar la cola. Así un tick cuesta O(1)
+ * sin importar la longitud de la serpiente.
+ *
+ * El índice 0 lógico es siempre la cabeza y el índice {@code size - 1} es la cola.
+ * Las posiciones se guardan empaquetadas en un {@code long[]} (ver Position.pack) y
+ * se exponen como instancias compartidas de PositionCache, por lo que mover la
+ * serpiente no reserva memoria.
+ *
+ * Además mantiene un OccupancyGrid actualizado en cada movimiento, de modo que
+ * hasSelfCollision() y occupies() son una sola consulta de bit. Las versiones por
+ * recorrido lineal siguen disponibles (hasSelfCollisionByScan, occupiesByScan)
+ * para validar el mapa de bits.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class RingBufferSnakeBody implements SnakeBody {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SnakeHead head;
+    private final PositionCache positionCache;
+    private final OccupancyGrid occupancy;
+    private long[] cells;
+    private int mask;
+    private int headIndex;
+    private int size;
+    private int overlaps;
+    private boolean selfCollision;
+
+    /**
+     * Crea un nuevo cuerpo de serpiente con la cabeza en la posición especificada.
+     *
+     * @param headPosition la posición inicial de la cabeza de la serpiente
+     * @param positionCache la tabla de posiciones compartidas de la cuadrícula
+     */
+    public RingBufferSnakeBody(Position headPosition, PositionCache positionCache) {
+        this.positionCache = positionCache;
+        this.head = new SnakeHead(positionCache.get(headPosition.getX(), headPosition.getY()));
+        this.occupancy = new OccupancyGrid(positionCache.getWidth(), positionCache.getHeight());
+        this.cells = new long[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.headIndex = 0;
+        this.size = 1;
+        cells[0] = headPosition.pack();
+        occupancy.occupy(headPosition.getX(), headPosition.getY());
+    }
+
+    @Override
+    public SnakeHead getHead() {
+        return head;
+    }
+
+    /**
+     * Obtiene la lista de segmentos del cuerpo.
+     * Los segmentos se crean bajo demanda a partir del buffer, por lo que
+     * modificar la lista retornada no afecta a la serpiente.
+     *
+     * @return lista de objetos SnakeSegment
+     */
+    @Override
+    public List<SnakeSegment> getSegments() {
+        List<SnakeSegment> segments = new ArrayList<>(size - 1);
+        for (int i = 1; i < size; i++) {
+            segments.add(new SnakeSegment(getPositionAt(i)));
+        }
+        return segments;
+    }
+
+    @Override
+    public Position getTail() {
+        return getPositionAt(size - 1);
+    }
+
+    @Override
+    public int getLength() {
+        return size;
+    }
+
+    /**
+     * Mueve la serpiente en la dirección especificada.
+     * La nueva cabeza se inserta al frente del buffer y la cola se descarta.
+     *
+     * @param direction la dirección de movimiento
+     */
+    @Override
+    public void move(Direction direction) {
+        long oldHead = cells[headIndex];
+        int x = Position.unpackX(oldHead) + direction.getDeltaX();
+        int y = Position.unpackY(oldHead) + direction.getDeltaY();
+        long newHead = Position.pack(x, y);
+
+        long oldTail = cellAt(size - 1);
+        if (size > 1 && oldTail == cellAt(size - 2)) {
+            overlaps--;
+        } else {
+            releaseCell(oldTail, 0, size - 1);
+        }
+        selfCollision = occupyCell(newHead, 0, size - 1);
+
+        headIndex = (headIndex - 1) & mask;
+        cells[headIndex] = newHead;
+        head.setPosition(positionCache.get(x, y));
+    }
+
+    /**
+     * Hace crecer la serpiente duplicando la posición de la cola.
+     * El buffer duplica su capacidad cuando se llena.
+     */
+    @Override
+    public void grow() {
+        if (size == cells.length) {
+            resize();
+        }
+        if (size == 1) {
+            // El nuevo segmento queda sobre la cabeza, igual que en SnakeBodyComposite
+            selfCollision = true;
+        }
+        cells[(headIndex + size) & mask] = cellAt(size - 1);
+        size++;
+        overlaps++;
+    }
+
+    /**
+     * Verifica si la cabeza de la serpiente colisiona con su propio cuerpo.
+     * El resultado se calcula con el mapa de ocupación durante move().
+     *
+     * @return true si se detecta auto-colisión
+     */
+    @Override
+    public boolean hasSelfCollision() {
+        return selfCollision;
+    }
+
+    /**
+     * Verifica la auto-colisión recorriendo todos los segmentos.
+     * Se conserva para validar el resultado de hasSelfCollision().
+     *
+     * @return true si se detecta auto-colisión
+     */
+    public boolean hasSelfCollisionByScan() {
+        return indexOf(cells[headIndex], 1, size) >= 0;
+    }
+
+    @Override
+    public Position getPosition() {
+        return head.getPosition();
+    }
+
+    @Override
+    public void setPosition(Position position) {
+        releaseCell(cells[headIndex], 1, size);
+        long packed = position.pack();
+        cells[headIndex] = packed;
+        head.setPosition(positionCache.get(position.getX(), position.getY()));
+        selfCollision = occupyCell(packed, 1, size);
+    }
+
+    @Override
+    public List<Position> getAllPositions() {
+        List<Position> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(getPositionAt(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean occupies(Position position) {
+        if (!occupancy.contains(position.getX(), position.getY())) {
+            return occupiesByScan(position);
+        }
+        return occupancy.isOccupied(position.getX(), position.getY());
+    }
+
+    /**
+     * Verifica la ocupación recorriendo todos los segmentos.
+     * Se conserva para validar el resultado de occupies().
+     *
+     * @param position la posición a verificar
+     * @return true si la posición está ocupada
+     */
+    public boolean occupiesByScan(Position position) {
+        return indexOf(position.pack(), 0, size) >= 0;
+    }
+
+    /**
+     * Obtiene el mapa de ocupación que mantiene este cuerpo.
+     *
+     * @return el mapa de ocupación
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Obtiene la posición empaquetada en el índice lógico dado (0 = cabeza).
+     *
+     * @param index el índice lógico, entre 0 y {@code getLength() - 1}
+     * @return la posición empaquetada con Position.pack
+     */
+    public long cellAt(int index) {
+        return cells[(headIndex + index) & mask];
+    }
+
+    /**
+     * Marca la celda como ocupada por un nuevo componente.
+     * Las posiciones fuera de la cuadrícula no están en el mapa de bits, así que
+     * se comparan contra los componentes del rango lógico [from, to).
+     *
+     * @return true si la celda ya estaba ocupada por otro componente
+     */
+    private boolean occupyCell(long packed, int from, int to) {
+        int x = Position.unpackX(packed);
+        int y = Position.unpackY(packed);
+        if (!occupancy.contains(x, y)) {
+            return indexOf(packed, from, to) >= 0;
+        }
+        if (occupancy.isOccupied(x, y)) {
+            overlaps++;
+            return true;
+        }
+        occupancy.occupy(x, y);
+        return false;
+    }
+
+    /**
+     * Libera la celda de un componente que deja de ocuparla.
+     * Si hay componentes superpuestos (tras crecer o colisionar), solo se libera
+     * cuando ningún otro componente en el rango lógico [from, to) ocupa la celda.
+     */
+    private void releaseCell(long packed, int from, int to) {
+        int x = Position.unpackX(packed);
+        int y = Position.unpackY(packed);
+        if (!occupancy.contains(x, y)) {
+            return;
+        }
+        if (overlaps > 0 && indexOf(packed, from, to) >= 0) {
+            overlaps--;
+            return;
+        }
+        occupancy.release(x, y);
+    }
+
+    /**
+     * Busca una posición empaquetada en el rango lógico [from, to).
+     *
+     * @return el índice lógico encontrado, o -1
+     */
+    private int indexOf(long packed, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (cellAt(i) == packed) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene la posición compartida en el índice lógico dado (0 = cabeza).
+     *
+     * @param index el índice lógico, entre 0 y {@code getLength() - 1}
+     * @return la posición compartida
+     */
+    @Override
+    public Position getPositionAt(int index) {
+        return positionCache.get(cellAt(index));
+    }
+
+    /**
+     * Duplica la capacidad del buffer, dejando la cabeza en el índice físico 0.
+     */
+    private void resize() {
+        long[] larger = new long[cells.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = cellAt(i);
+        }
+        cells = larger;
+        mask = larger.length - 1;
+        headIndex = 0;
+    }
+}
@@ -0,0 +1,76 @@
+package snake.model.composite;
+
+import snake.model.Direction;
+import snake.model.Position;
+import java.util.List;
+
+/**
+ * Interfaz para el cuerpo completo de la serpiente.
+ *
+ * PATRÓN: Composite (Componente Compuesto)
+ * SnakeBody extiende el contrato de SnakeComponent con las operaciones que el
+ * GameModel necesita sobre la serpiente completa. Permite elegir entre distintas
+ * implementaciones del cuerpo (SnakeBodyComposite, RingBufferSnakeBody) sin
+ * modificar la lógica del juego ni las vistas.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public interface SnakeBody extends SnakeComponent {
+
+    /**
+     * Obtiene el componente cabeza de la serpiente.
+     *
+     * @return el SnakeHead
+     */
+    SnakeHead getHead();
+
+    /**
+     * Obtiene la lista de segmentos del cuerpo, desde el cuello hasta la cola.
+     *
+     * @return lista de objetos SnakeSegment
+     */
+    List<SnakeSegment> getSegments();
+
+    /**
+     * Obtiene la posición de la cola (el último componente de la serpiente).
+     * Si la serpiente solo tiene cabeza, la cola es la cabeza.
+     *
+     * @return la posición de la cola
+     */
+    Position getTail();
+
+    /**
+     * Obtiene la posición del componente en el índice dado, sin copiar el cuerpo.
+     *
+     * @param index el índice, de 0 (cabeza) a {@code getLength() - 1} (cola)
+     * @return la posición del componente
+     */
+    Position getPositionAt(int index);
+
+    /**
+     * Obtiene la longitud actual de la serpiente (cabeza + segmentos).
+     *
+     * @return número total de componentes
+     */
+    int getLength();
+
+    /**
+     * Mueve la serpiente en la dirección especificada.
+     *
+     * @param direction la dirección de movimiento
+     */
+    void move(Direction direction);
+
+    /**
+     * Hace crecer la serpiente agregando un nuevo segmento en la cola.
+     */
+    void grow();
+
+    /**
+     * Verifica si la cabeza de la serpiente colisiona con su propio cuerpo.
+     *
+     * @return true si se detecta auto-colisión
+     */
+    boolean hasSelfCollision();
+}
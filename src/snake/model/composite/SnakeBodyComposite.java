@@ -12,11 +12,13 @@ import java.util.List;
  * SnakeBodyComposite es el nodo compuesto que contiene y gestiona
  * todos los componentes de la serpiente (cabeza y segmentos). Proporciona una interfaz
  * unificada para operaciones sobre todo el cuerpo de la serpiente.
+ * Cada movimiento recorre todos los segmentos, por lo que se conserva como
+ * implementación de referencia frente a RingBufferSnakeBody.
  * 
  * @author Snake Game
  * @version 1.0
  */
-public class SnakeBodyComposite implements SnakeComponent {
+public class SnakeBodyComposite implements SnakeBody {
     private final SnakeHead head;
     private final List<SnakeSegment> segments;
 
@@ -48,6 +50,30 @@ public class SnakeBodyComposite implements SnakeComponent {
         return new ArrayList<>(segments);
     }
 
+    /**
+     * Obtiene la posición de la cola de la serpiente.
+     * 
+     * @return la posición del último segmento, o de la cabeza si no hay segmentos
+     */
+    @Override
+    public Position getTail() {
+        if (segments.isEmpty()) {
+            return head.getPosition();
+        }
+        return segments.get(segments.size() - 1).getPosition();
+    }
+
+    /**
+     * Obtiene la posición del componente en el índice dado (0 = cabeza).
+     * 
+     * @param index el índice del componente
+     * @return la posición del componente
+     */
+    @Override
+    public Position getPositionAt(int index) {
+        return index == 0 ? head.getPosition() : segments.get(index - 1).getPosition();
+    }
+
     /**
      * Obtiene la longitud actual de la serpiente (cabeza + segmentos).
      * 
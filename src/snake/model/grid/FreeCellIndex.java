@@ -0,0 +1,139 @@
+package snake.model.grid;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Índice de celdas libres de la cuadrícula con selección aleatoria en O(1).
+ * Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * Las celdas libres se guardan en un arreglo denso y cada celda conoce su posición
+ * (slot) dentro de ese arreglo. Quitar una celda la intercambia con la última del
+ * arreglo denso, por lo que agregar, quitar y elegir una celda al azar cuestan O(1)
+ * y la elección es uniforme sin importar cuántas celdas queden libres.
+ *
+ * Las celdas se identifican por su índice {@code y * width + x}.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class FreeCellIndex {
+    private final int width;
+    private final int height;
+    private final int[] cells;
+    private final int[] slots;
+    private int size;
+
+    /**
+     * Crea un índice con todas las celdas de la cuadrícula libres.
+     *
+     * @param width ancho de la cuadrícula en celdas
+     * @param height altura de la cuadrícula en celdas
+     */
+    public FreeCellIndex(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new int[width * height];
+        this.slots = new int[width * height];
+        reset();
+    }
+
+    /**
+     * Marca todas las celdas de la cuadrícula como libres.
+     */
+    public void reset() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+            slots[i] = i;
+        }
+        size = cells.length;
+    }
+
+    /**
+     * Marca la celda como libre. Ignora coordenadas fuera de la cuadrícula.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     */
+    public void add(int x, int y) {
+        if (!contains(x, y)) {
+            return;
+        }
+        int cell = y * width + x;
+        if (slots[cell] >= 0) {
+            return;
+        }
+        cells[size] = cell;
+        slots[cell] = size;
+        size++;
+    }
+
+    /**
+     * Marca la celda como ocupada (la quita del índice). Ignora coordenadas
+     * fuera de la cuadrícula.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     */
+    public void remove(int x, int y) {
+        if (!contains(x, y)) {
+            return;
+        }
+        int cell = y * width + x;
+        int slot = slots[cell];
+        if (slot < 0) {
+            return;
+        }
+        int last = cells[--size];
+        cells[slot] = last;
+        slots[last] = slot;
+        slots[cell] = -1;
+    }
+
+    /**
+     * Verifica si la celda está libre.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si la celda está dentro de la cuadrícula y libre
+     */
+    public boolean isFree(int x, int y) {
+        return contains(x, y) && slots[y * width + x] >= 0;
+    }
+
+    /**
+     * Elige una celda libre de manera uniforme.
+     *
+     * @param random la fuente de números aleatorios
+     * @return el índice {@code y * width + x} de la celda, o -1 si no quedan celdas libres
+     */
+    public int randomFreeCell(RandomGenerator random) {
+        if (size == 0) {
+            return -1;
+        }
+        return cells[random.nextInt(size)];
+    }
+
+    /**
+     * Obtiene el número de celdas libres.
+     *
+     * @return celdas libres
+     */
+    public int getFreeCount() {
+        return size;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
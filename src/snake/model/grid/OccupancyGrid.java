@@ -0,0 +1,117 @@
+package snake.model.grid;
+
+/**
+ * Mapa de bits del tamaño de la cuadrícula que indica qué celdas están ocupadas.
+ * Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * Cada celda ocupa un bit dentro de un arreglo {@code long[]}, por lo que consultar
+ * o modificar una celda cuesta O(1) y una cuadrícula de 1000x1000 usa ~122 KB
+ * (una de 10000x10000, ~12 MB). Los índices de celda se calculan en long para
+ * admitir cuadrículas de más de 2^31 celdas.
+ * Las coordenadas fuera de la cuadrícula nunca se consideran ocupadas.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class OccupancyGrid {
+    private final int width;
+    private final int height;
+    private final long[] bits;
+    private int occupiedCount;
+
+    /**
+     * Crea un mapa de ocupación vacío para una cuadrícula del tamaño dado.
+     *
+     * @param width ancho de la cuadrícula en celdas
+     * @param height altura de la cuadrícula en celdas
+     */
+    public OccupancyGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.bits = new long[(int) (((long) width * height + 63) >>> 6)];
+    }
+
+    /**
+     * Verifica si las coordenadas están dentro de la cuadrícula.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si la celda existe en la cuadrícula
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Verifica si la celda está ocupada.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return true si la celda está dentro de la cuadrícula y ocupada
+     */
+    public boolean isOccupied(int x, int y) {
+        if (!contains(x, y)) {
+            return false;
+        }
+        long cell = (long) y * width + x;
+        return (bits[(int) (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Marca la celda como ocupada. Ignora coordenadas fuera de la cuadrícula.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     */
+    public void occupy(int x, int y) {
+        if (!contains(x, y)) {
+            return;
+        }
+        long cell = (long) y * width + x;
+        int word = (int) (cell >>> 6);
+        long mask = 1L << cell;
+        if ((bits[word] & mask) == 0) {
+            bits[word] |= mask;
+            occupiedCount++;
+        }
+    }
+
+    /**
+     * Marca la celda como libre. Ignora coordenadas fuera de la cuadrícula.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     */
+    public void release(int x, int y) {
+        if (!contains(x, y)) {
+            return;
+        }
+        long cell = (long) y * width + x;
+        int word = (int) (cell >>> 6);
+        long mask = 1L << cell;
+        if ((bits[word] & mask) != 0) {
+            bits[word] &= ~mask;
+            occupiedCount--;
+        }
+    }
+
+    /**
+     * Obtiene el número de celdas ocupadas.
+     *
+     * @return celdas ocupadas
+     */
+    public int getOccupiedCount() {
+        return occupiedCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
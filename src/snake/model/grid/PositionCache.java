@@ -0,0 +1,141 @@
+package snake.model.grid;
+
+import snake.model.Direction;
+import snake.model.Position;
+
+/**
+ * Tabla de instancias compartidas de Position para una cuadrícula.
+ *
+ * PATRÓN: Flyweight
+ * Position es inmutable, así que cada celda de la cuadrícula puede representarse con
+ * una única instancia reutilizada. Las filas se crean bajo demanda la primera vez que
+ * se consulta una de sus celdas, de modo que una vez calentada la tabla, obtener
+ * o desplazar una posición dentro de la cuadrícula no reserva memoria.
+ *
+ * En cuadrículas enormes (más de {@link #MAX_TABLE_CELLS} celdas) una instancia por
+ * celda no cabe en memoria. En ese caso la tabla se sustituye por una caché de
+ * correspondencia directa de tamaño fijo: cada celda tiene una única entrada posible
+ * y un fallo la sobrescribe. Las posiciones recientes (la serpiente y su entorno)
+ * siguen sin reservar memoria, pero dos consultas de la misma celda pueden devolver
+ * instancias distintas; Position se compara siempre con equals().
+ *
+ * Las posiciones fuera de la cuadrícula no se guardan: se crean nuevas en cada consulta.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class PositionCache {
+    /**
+     * Número máximo de celdas para guardar una instancia por celda.
+     */
+    public static final long MAX_TABLE_CELLS = 1L << 22;
+
+    private static final int RECENT_BITS = 18;
+    private static final int RECENT_MASK = (1 << RECENT_BITS) - 1;
+
+    private final int width;
+    private final int height;
+    private final Position[][] rows;
+    private final Position[] recent;
+
+    /**
+     * Crea una tabla vacía para una cuadrícula del tamaño dado.
+     *
+     * @param width ancho de la cuadrícula en celdas
+     * @param height altura de la cuadrícula en celdas
+     */
+    public PositionCache(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        if ((long) width * height <= MAX_TABLE_CELLS) {
+            this.rows = new Position[height][];
+            this.recent = null;
+        } else {
+            this.rows = null;
+            this.recent = new Position[1 << RECENT_BITS];
+        }
+    }
+
+    /**
+     * Obtiene la instancia compartida de la posición (x, y).
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return la posición; compartida si está dentro de la cuadrícula
+     */
+    public Position get(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return new Position(x, y);
+        }
+        if (recent != null) {
+            return getRecent(x, y);
+        }
+        Position[] row = rows[y];
+        if (row == null) {
+            row = new Position[width];
+            rows[y] = row;
+        }
+        Position position = row[x];
+        if (position == null) {
+            position = new Position(x, y);
+            row[x] = position;
+        }
+        return position;
+    }
+
+    /**
+     * Busca la posición en la caché de correspondencia directa. Las celdas vecinas
+     * caen en entradas distintas, así que un cuerpo compacto no se pisa a sí mismo.
+     */
+    private Position getRecent(int x, int y) {
+        int slot = ((y & 0x1FF) << 9 | (x & 0x1FF)) & RECENT_MASK;
+        Position position = recent[slot];
+        if (position == null || position.getX() != x || position.getY() != y) {
+            position = new Position(x, y);
+            recent[slot] = position;
+        }
+        return position;
+    }
+
+    /**
+     * Obtiene la instancia compartida de una posición empaquetada.
+     *
+     * @param packed la posición empaquetada con {@link Position#pack(int, int)}
+     * @return la posición
+     */
+    public Position get(long packed) {
+        return get(Position.unpackX(packed), Position.unpackY(packed));
+    }
+
+    /**
+     * Obtiene la instancia compartida de una celda {@code y * width + x}.
+     *
+     * @param cell el índice de la celda
+     * @return la posición
+     */
+    public Position getCell(int cell) {
+        return get(cell % width, cell / width);
+    }
+
+    /**
+     * Equivalente a {@link Position#move(Direction)} pero devolviendo la instancia compartida.
+     *
+     * @param position la posición de origen
+     * @param direction la dirección de movimiento
+     * @return la posición desplazada
+     */
+    public Position move(Position position, Direction direction) {
+        return get(position.getX() + direction.getDeltaX(), position.getY() + direction.getDeltaY());
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,131 @@
+package snake.model.input;
+
+import snake.model.Direction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola de direcciones de un único productor y un único consumidor, sin bloqueos.
+ * Esta es una clase del modelo pura sin dependencias de UI.
+ *
+ * El productor (el EDT, con cada tecla) escribe la dirección y el instante de la
+ * pulsación en un buffer circular y publica la nueva cola con una escritura de
+ * liberación; el consumidor (el hilo de la simulación) lee desde la cabeza y la
+ * avanza del mismo modo. Cada lado solo escribe su propio índice y guarda una copia
+ * del índice del otro, que vuelve a leer únicamente cuando la cola parece llena o
+ * vacía. No hay bloqueos, ni CAS, ni reservas de memoria por pulsación.
+ *
+ * A diferencia de un único campo "siguiente dirección", las pulsaciones rápidas
+ * dentro de un mismo tick (un giro en U: ARRIBA y luego IZQUIERDA) se conservan y
+ * se aplican en ticks sucesivos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class InputQueue {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final byte[] directions;
+    private final long[] timestamps;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private long cachedHead;
+    private long cachedTail;
+
+    /**
+     * Crea una cola vacía.
+     *
+     * @param capacity número máximo de pulsaciones pendientes, potencia de dos
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de dos: " + capacity);
+        }
+        this.directions = new byte[capacity];
+        this.timestamps = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Encola una pulsación. Solo desde el hilo productor.
+     *
+     * @param direction la dirección pulsada
+     * @param timestampNanos el instante de la pulsación según System.nanoTime()
+     * @return true si se encoló, false si la cola está llena
+     */
+    public boolean offer(Direction direction, long timestampNanos) {
+        long t = tail.get();
+        if (t - cachedHead > mask) {
+            cachedHead = head.get();
+            if (t - cachedHead > mask) {
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        directions[slot] = (byte) direction.ordinal();
+        timestamps[slot] = timestampNanos;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Indica si hay pulsaciones pendientes. Solo desde el hilo consumidor.
+     *
+     * @return true si la cola está vacía
+     */
+    public boolean isEmpty() {
+        long h = head.get();
+        if (h < cachedTail) {
+            return false;
+        }
+        cachedTail = tail.get();
+        return h >= cachedTail;
+    }
+
+    /**
+     * Obtiene la dirección de la pulsación más antigua sin quitarla.
+     * Solo desde el hilo consumidor, después de comprobar que la cola no está vacía.
+     *
+     * @return la dirección
+     */
+    public Direction peekDirection() {
+        return DIRECTIONS[directions[(int) head.get() & mask]];
+    }
+
+    /**
+     * Obtiene el instante de la pulsación más antigua sin quitarla.
+     * Solo desde el hilo consumidor, después de comprobar que la cola no está vacía.
+     *
+     * @return el instante según System.nanoTime()
+     */
+    public long peekTimestamp() {
+        return timestamps[(int) head.get() & mask];
+    }
+
+    /**
+     * Quita la pulsación más antigua. Solo desde el hilo consumidor, después de
+     * comprobar que la cola no está vacía.
+     */
+    public void remove() {
+        head.lazySet(head.get() + 1);
+    }
+
+    /**
+     * Descarta todas las pulsaciones pendientes, por ejemplo al reiniciar la partida.
+     * Solo desde el hilo consumidor.
+     */
+    public void clear() {
+        cachedTail = tail.get();
+        head.lazySet(cachedTail);
+    }
+
+    /**
+     * Obtiene la capacidad de la cola.
+     *
+     * @return pulsaciones pendientes como máximo
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+}
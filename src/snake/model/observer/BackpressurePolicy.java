@@ -0,0 +1,22 @@
+package snake.model.observer;
+
+/**
+ * Qué hacer con los eventos de un observador asíncrono que no da abasto.
+ * 
+ * @author Snake Game
+ * @version 1.0
+ */
+public enum BackpressurePolicy {
+    /**
+     * Los eventos pendientes se combinan en uno solo: el observador recibe una vez
+     * cada tipo de notificación con los valores más recientes. Es lo adecuado para
+     * vistas, a las que solo les interesa el estado actual.
+     */
+    COALESCE,
+
+    /**
+     * Los eventos se encolan por separado; con la cola llena se descarta el más
+     * antiguo. El observador ve cada tick mientras mantenga el ritmo.
+     */
+    DROP_OLDEST
+}
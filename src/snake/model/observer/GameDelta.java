@@ -0,0 +1,254 @@
+package snake.model.observer;
+
+import snake.model.GameState;
+import snake.model.factory.Food;
+
+/**
+ * Exactamente lo que cambió en un tick o acción, para que un observador pueda
+ * actualizarse en O(1) sin recorrer la serpiente.
+ *
+ * Un tick de movimiento añade la celda de la nueva cabeza y, salvo que la serpiente
+ * crezca, libera la celda de la cola anterior. Al comer, el segmento nuevo se
+ * superpone con la cola, así que en celdas el crecimiento se nota en el tick
+ * siguiente: es el tick en que la cola no libera su celda ({@link #isGrown()}).
+ * Aplicando los deltas en orden, el conjunto de celdas ocupadas coincide siempre con
+ * el del modelo. En el tick en que la partida termina, el delta recoge el movimiento
+ * fatal tal como ocurrió: la cabeza puede quedar fuera del tablero.
+ *
+ * Las acciones sin movimiento (pausa) solo cambian el estado. Una partida nueva es un
+ * delta de reinicio ({@link #isReset()}): no describe un cambio sino un estado nuevo,
+ * que el observador debe leer entero del modelo o de una GameSnapshot.
+ *
+ * Cada delta lleva un número de secuencia consecutivo. Un observador asíncrono cuyos
+ * eventos se combinan o se descartan ve saltos en la secuencia ({@link #follows}) y
+ * debe resincronizarse con una foto en lugar de aplicar el delta.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public final class GameDelta {
+    /**
+     * Coordenada de las celdas que no forman parte del delta.
+     */
+    public static final int NO_CELL = Integer.MIN_VALUE;
+
+    private final long sequence;
+    private final long gameSeed;
+    private final long tick;
+    private final boolean reset;
+    private final int headX;
+    private final int headY;
+    private final int tailX;
+    private final int tailY;
+    private final Food previousFood;
+    private final Food food;
+    private final int scoreDelta;
+    private final int score;
+    private final GameState previousState;
+    private final GameState state;
+
+    private GameDelta(long sequence, long gameSeed, long tick, boolean reset,
+                      int headX, int headY, int tailX, int tailY,
+                      Food previousFood, Food food, int scoreDelta, int score,
+                      GameState previousState, GameState state) {
+        this.sequence = sequence;
+        this.gameSeed = gameSeed;
+        this.tick = tick;
+        this.reset = reset;
+        this.headX = headX;
+        this.headY = headY;
+        this.tailX = tailX;
+        this.tailY = tailY;
+        this.previousFood = previousFood;
+        this.food = food;
+        this.scoreDelta = scoreDelta;
+        this.score = score;
+        this.previousState = previousState;
+        this.state = state;
+    }
+
+    /**
+     * Crea el delta de un tick con movimiento.
+     *
+     * @param sequence número de secuencia del delta
+     * @param gameSeed semilla de la partida
+     * @param tick tick de la partida
+     * @param headX columna de la nueva cabeza
+     * @param headY fila de la nueva cabeza
+     * @param tailX columna de la celda liberada por la cola, o NO_CELL si creció
+     * @param tailY fila de la celda liberada por la cola, o NO_CELL si creció
+     * @param previousFood la comida antes del tick, o null
+     * @param food la comida después del tick, o null
+     * @param scoreDelta puntos ganados en el tick
+     * @param score puntuación tras el tick
+     * @param previousState estado antes del tick
+     * @param state estado tras el tick
+     * @return el delta
+     */
+    public static GameDelta move(long sequence, long gameSeed, long tick, int headX, int headY,
+                                 int tailX, int tailY, Food previousFood, Food food,
+                                 int scoreDelta, int score, GameState previousState, GameState state) {
+        return new GameDelta(sequence, gameSeed, tick, false, headX, headY, tailX, tailY,
+                previousFood, food, scoreDelta, score, previousState, state);
+    }
+
+    /**
+     * Crea el delta de un cambio de estado sin movimiento, como pausar o reanudar.
+     *
+     * @param sequence número de secuencia del delta
+     * @param gameSeed semilla de la partida
+     * @param tick tick de la partida
+     * @param food la comida actual, o null
+     * @param score la puntuación actual
+     * @param previousState estado anterior
+     * @param state estado nuevo
+     * @return el delta
+     */
+    public static GameDelta stateChange(long sequence, long gameSeed, long tick, Food food, int score,
+                                        GameState previousState, GameState state) {
+        return new GameDelta(sequence, gameSeed, tick, false, NO_CELL, NO_CELL, NO_CELL, NO_CELL,
+                food, food, 0, score, previousState, state);
+    }
+
+    /**
+     * Crea el delta de una partida nueva.
+     *
+     * @param sequence número de secuencia del delta
+     * @param gameSeed semilla de la nueva partida
+     * @param food la comida inicial, o null
+     * @param previousState estado antes de reiniciar
+     * @param state estado de la nueva partida
+     * @return el delta
+     */
+    public static GameDelta reset(long sequence, long gameSeed, Food food, GameState previousState, GameState state) {
+        return new GameDelta(sequence, gameSeed, 0, true, NO_CELL, NO_CELL, NO_CELL, NO_CELL,
+                null, food, 0, 0, previousState, state);
+    }
+
+    /**
+     * Indica si este delta es el siguiente a otro, sin ninguno perdido entre medias.
+     *
+     * @param previous el último delta aplicado
+     * @return true si las secuencias son consecutivas
+     */
+    public boolean follows(GameDelta previous) {
+        return previous != null && previous.sequence + 1 == sequence;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Indica si el delta es el comienzo de una partida nueva.
+     *
+     * @return true si hay que leer el estado completo
+     */
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * Indica si la serpiente se movió en este delta.
+     *
+     * @return true si hay nueva cabeza
+     */
+    public boolean hasMoved() {
+        return headX != NO_CELL;
+    }
+
+    public int getHeadX() {
+        return headX;
+    }
+
+    public int getHeadY() {
+        return headY;
+    }
+
+    /**
+     * Indica si la cola liberó una celda.
+     *
+     * @return true si getTailX() y getTailY() indican la celda liberada
+     */
+    public boolean hasTailRemoved() {
+        return tailX != NO_CELL;
+    }
+
+    /**
+     * Indica si la serpiente se movió sin liberar la cola, es decir, si ocupa una celda
+     * más que antes del tick.
+     *
+     * @return true si creció en celdas
+     */
+    public boolean isGrown() {
+        return hasMoved() && !hasTailRemoved();
+    }
+
+    public int getTailX() {
+        return tailX;
+    }
+
+    public int getTailY() {
+        return tailY;
+    }
+
+    /**
+     * Indica si la comida cambió de sitio (se comió, apareció o se reinició).
+     *
+     * @return true si la comida anterior y la actual son distintas
+     */
+    public boolean isFoodChanged() {
+        return previousFood != food;
+    }
+
+    public Food getPreviousFood() {
+        return previousFood;
+    }
+
+    public Food getFood() {
+        return food;
+    }
+
+    public int getScoreDelta() {
+        return scoreDelta;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Indica si el estado de la partida cambió.
+     *
+     * @return true si el estado anterior y el actual son distintos
+     */
+    public boolean isStateChanged() {
+        return previousState != state;
+    }
+
+    public GameState getPreviousState() {
+        return previousState;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "GameDelta{seq=" + sequence + ", tick=" + tick + (reset ? ", reset" : "")
+                + (hasMoved() ? ", head=" + headX + "," + headY : "")
+                + (hasTailRemoved() ? ", tail=" + tailX + "," + tailY : "")
+                + (isFoodChanged() ? ", food" : "")
+                + (scoreDelta != 0 ? ", score+" + scoreDelta : "")
+                + (isStateChanged() ? ", " + previousState + "->" + state : "") + "}";
+    }
+}
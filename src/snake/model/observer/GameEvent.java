@@ -0,0 +1,113 @@
+package snake.model.observer;
+
+import snake.model.GameState;
+
+/**
+ * Todo lo que cambió en un tick (o en una acción como pausar o reiniciar), reunido en
+ * un único evento inmutable.
+ * 
+ * Un tick puede cambiar la puntuación, actualizar el tablero y terminar la partida.
+ * En lugar de una notificación por cada cosa, el modelo publica un evento con una
+ * bandera por tipo de cambio, y {@link #deliverTo(GameObserver)} lo traduce a las
+ * llamadas de GameObserver en orden: puntuación, actualización y fin de partida.
+ * 
+ * El evento lleva también el {@link GameDelta} del tick, que se entrega primero con
+ * {@link GameObserver#onGameDelta(GameDelta)}.
+ * 
+ * Dos eventos se pueden combinar en uno ({@link #merge(GameEvent)}): las banderas se
+ * acumulan y el delta es el del más reciente. El observador ve entonces un salto en
+ * la secuencia de deltas y sabe que debe resincronizarse. El fin de partida no se
+ * acumula si el evento más reciente ya es de una partida nueva.
+ * 
+ * @author Snake Game
+ * @version 1.0
+ */
+public final class GameEvent {
+    /**
+     * El estado del juego cambió (movimiento, pausa, reinicio).
+     */
+    public static final int UPDATED = 1;
+
+    /**
+     * La puntuación cambió.
+     */
+    public static final int SCORE_CHANGED = 1 << 1;
+
+    /**
+     * La partida terminó.
+     */
+    public static final int GAME_OVER = 1 << 2;
+
+    private final int flags;
+    private final GameDelta delta;
+
+    /**
+     * Crea un evento.
+     * 
+     * @param flags combinación de UPDATED, SCORE_CHANGED y GAME_OVER
+     * @param delta lo que cambió
+     */
+    public GameEvent(int flags, GameDelta delta) {
+        this.flags = flags;
+        this.delta = delta;
+    }
+
+    /**
+     * Notifica a un observador el delta y los cambios indicados por las banderas.
+     * 
+     * @param observer el observador
+     * @param flags combinación de UPDATED, SCORE_CHANGED y GAME_OVER
+     * @param delta lo que cambió
+     */
+    public static void deliver(GameObserver observer, int flags, GameDelta delta) {
+        int score = delta.getScore();
+        observer.onGameDelta(delta);
+        if ((flags & SCORE_CHANGED) != 0) {
+            observer.onScoreChanged(score);
+        }
+        if ((flags & UPDATED) != 0) {
+            observer.onGameUpdated();
+        }
+        if ((flags & GAME_OVER) != 0) {
+            observer.onGameOver(score);
+        }
+    }
+
+    /**
+     * Notifica este evento a un observador.
+     * 
+     * @param observer el observador
+     */
+    public void deliverTo(GameObserver observer) {
+        deliver(observer, flags, delta);
+    }
+
+    /**
+     * Combina este evento con uno posterior.
+     * 
+     * @param newer el evento posterior
+     * @return un evento con las banderas de ambos y el delta del posterior, sin
+     *         GAME_OVER si el posterior ya no es de la partida terminada
+     */
+    public GameEvent merge(GameEvent newer) {
+        int merged = flags | newer.flags;
+        if (newer.delta.getState() != GameState.GAME_OVER) {
+            // Un reinicio tras el fin de partida: avisar del fin después de la partida
+            // nueva la daría por terminada.
+            merged &= ~GAME_OVER;
+        }
+        return new GameEvent(merged, newer.delta);
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    public GameDelta getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,263 @@
+package snake.model.observer;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Reparte los eventos del modelo entre sus observadores.
+ *
+ * PATRÓN: Observer (Sujeto)
+ * GameModel delega en el bus el registro de observadores y la notificación. El modelo
+ * publica un único {@link GameEvent} por tick o acción, con todo lo que cambió, así que
+ * cada observador recibe una sola ráfaga de llamadas por tick.
+ *
+ * Los observadores síncronos se llaman en el hilo que publica, como antes; es lo que
+ * necesita quien debe ver cada tick en orden antes de que llegue el siguiente (el
+ * exportador de cuadros). Los asíncronos tienen un buzón acotado y un Executor propio
+ * (para Swing, el EDT): publicar solo deja el evento en el buzón, y el buzón se vacía
+ * en el Executor. Un observador lento nunca detiene la simulación; si se retrasa, su
+ * buzón aplica la BackpressurePolicy elegida al registrarlo.
+ *
+ * Cada buzón se programa en su Executor como mucho una vez a la vez, de modo que un
+ * observador recibe sus eventos en orden y nunca en dos hilos a la vez, cualquiera que
+ * sea el Executor.
+ *
+ * Publicar reserva como mucho el GameDelta del tick y, si hay observadores asíncronos,
+ * el evento que se deja en sus buzones.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameEventBus {
+    private static final GameObserver[] NO_OBSERVERS = new GameObserver[0];
+    private static final Mailbox[] NO_MAILBOXES = new Mailbox[0];
+
+    // Copia al escribir: publicar recorre un arreglo que nunca cambia, sin bloqueos ni
+    // Iterator, aunque otro hilo registre o elimine observadores a la vez.
+    private volatile GameObserver[] syncObservers = NO_OBSERVERS;
+    private volatile Mailbox[] mailboxes = NO_MAILBOXES;
+
+    /**
+     * Registra un observador que se notifica en el hilo que publica.
+     *
+     * @param observer el observador
+     */
+    public synchronized void register(GameObserver observer) {
+        if (!isRegistered(observer)) {
+            GameObserver[] observers = Arrays.copyOf(syncObservers, syncObservers.length + 1);
+            observers[observers.length - 1] = observer;
+            syncObservers = observers;
+        }
+    }
+
+    /**
+     * Registra un observador que se notifica en su propio Executor.
+     *
+     * @param observer el observador
+     * @param executor dónde se le entregan los eventos, por ejemplo
+     *                 {@code SwingUtilities::invokeLater}
+     * @param policy qué hacer cuando se acumulan eventos sin entregar
+     * @param capacity eventos pendientes como máximo con DROP_OLDEST
+     */
+    public synchronized void register(GameObserver observer, Executor executor, BackpressurePolicy policy,
+                                      int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacity);
+        }
+        if (!isRegistered(observer)) {
+            Mailbox[] boxes = Arrays.copyOf(mailboxes, mailboxes.length + 1);
+            boxes[boxes.length - 1] = new Mailbox(observer, executor, policy, capacity);
+            mailboxes = boxes;
+        }
+    }
+
+    /**
+     * Elimina un observador. Los eventos que tuviera pendientes se descartan.
+     *
+     * @param observer el observador
+     */
+    public synchronized void remove(GameObserver observer) {
+        syncObservers = Arrays.stream(syncObservers)
+                .filter(o -> o != observer)
+                .toArray(GameObserver[]::new);
+        for (Mailbox mailbox : mailboxes) {
+            if (mailbox.observer == observer) {
+                mailbox.close();
+            }
+        }
+        mailboxes = Arrays.stream(mailboxes)
+                .filter(m -> m.observer != observer)
+                .toArray(Mailbox[]::new);
+    }
+
+    private boolean isRegistered(GameObserver observer) {
+        for (GameObserver registered : syncObservers) {
+            if (registered == observer) {
+                return true;
+            }
+        }
+        for (Mailbox mailbox : mailboxes) {
+            if (mailbox.observer == observer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si hay algún observador registrado. Sin observadores, el modelo no
+     * necesita preparar el delta del tick.
+     *
+     * @return true si hay observadores síncronos o asíncronos
+     */
+    public boolean hasObservers() {
+        return syncObservers.length > 0 || mailboxes.length > 0;
+    }
+
+    /**
+     * Publica los cambios de un tick o acción. Los observadores síncronos se notifican
+     * antes de volver; los asíncronos reciben el evento en su buzón.
+     *
+     * @param flags combinación de GameEvent.UPDATED, SCORE_CHANGED y GAME_OVER
+     * @param delta lo que cambió
+     */
+    public void publish(int flags, GameDelta delta) {
+        for (GameObserver observer : syncObservers) {
+            GameEvent.deliver(observer, flags, delta);
+        }
+        Mailbox[] boxes = mailboxes;
+        if (boxes.length > 0) {
+            GameEvent event = new GameEvent(flags, delta);
+            for (Mailbox mailbox : boxes) {
+                mailbox.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Obtiene cuántos eventos han descartado los buzones DROP_OLDEST por estar llenos.
+     *
+     * @return eventos descartados por los observadores registrados
+     */
+    public long getDroppedEvents() {
+        long dropped = 0;
+        for (Mailbox mailbox : mailboxes) {
+            dropped += mailbox.getDropped();
+        }
+        return dropped;
+    }
+
+    /**
+     * Eventos pendientes de un observador asíncrono y la tarea que se los entrega.
+     */
+    private static final class Mailbox implements Runnable {
+        final GameObserver observer;
+        private final Executor executor;
+        private final BackpressurePolicy policy;
+        private final GameEvent[] queue;
+        private int head;
+        private int size;
+        private GameEvent coalesced;
+        private boolean scheduled;
+        private boolean closed;
+        private long dropped;
+
+        Mailbox(GameObserver observer, Executor executor, BackpressurePolicy policy, int capacity) {
+            this.observer = observer;
+            this.executor = executor;
+            this.policy = policy;
+            this.queue = new GameEvent[policy == BackpressurePolicy.DROP_OLDEST ? capacity : 0];
+        }
+
+        /**
+         * Deja un evento en el buzón y programa la entrega si no estaba programada.
+         */
+        void offer(GameEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (policy == BackpressurePolicy.COALESCE) {
+                    coalesced = coalesced == null ? event : coalesced.merge(event);
+                } else {
+                    if (size == queue.length) {
+                        queue[head] = null;
+                        head = (head + 1) % queue.length;
+                        size--;
+                        dropped++;
+                    }
+                    queue[(head + size) % queue.length] = event;
+                    size++;
+                }
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            executor.execute(this);
+        }
+
+        /**
+         * Entrega los eventos pendientes. Tras una tanda del tamaño del buzón cede el
+         * Executor y se vuelve a programar, para no acapararlo si el modelo publica
+         * más rápido de lo que el observador consume.
+         */
+        @Override
+        public void run() {
+            int batch = Math.max(1, queue.length);
+            for (int i = 0; i < batch; i++) {
+                GameEvent event;
+                synchronized (this) {
+                    event = poll();
+                    if (event == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    event.deliverTo(observer);
+                } catch (RuntimeException e) {
+                    // Un fallo del observador no debe dejar su buzón programado para siempre.
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            synchronized (this) {
+                if (closed || (coalesced == null && size == 0)) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            executor.execute(this);
+        }
+
+        private GameEvent poll() {
+            if (closed) {
+                return null;
+            }
+            if (policy == BackpressurePolicy.COALESCE) {
+                GameEvent event = coalesced;
+                coalesced = null;
+                return event;
+            }
+            if (size == 0) {
+                return null;
+            }
+            GameEvent event = queue[head];
+            queue[head] = null;
+            head = (head + 1) % queue.length;
+            size--;
+            return event;
+        }
+
+        synchronized void close() {
+            closed = true;
+            coalesced = null;
+            size = 0;
+        }
+
+        synchronized long getDropped() {
+            return dropped;
+        }
+    }
+}
@@ -32,4 +32,14 @@ public interface GameObserver {
      * @param newScore la puntuación actualizada
      */
     void onScoreChanged(int newScore);
+    
+    /**
+     * Se llama con exactamente lo que cambió, antes que los demás métodos del mismo
+     * evento. Permite actualizarse en O(1) por tick sin leer la serpiente completa.
+     * Por defecto no hace nada.
+     * 
+     * @param delta los cambios del tick o acción
+     */
+    default void onGameDelta(GameDelta delta) {
+    }
 }
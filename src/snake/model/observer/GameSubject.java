@@ -1,5 +1,7 @@
 package snake.model.observer;
 
+import java.util.concurrent.Executor;
+
 /**
  * Interfaz sujeto para el patrón Observer.
  * 
@@ -8,18 +10,35 @@ package snake.model.observer;
  * El GameModel implementa esta interfaz para permitir que las Vistas
  * se suscriban a los cambios del estado del juego.
  * 
+ * Un observador puede notificarse en el hilo del modelo (síncrono) o en su propio
+ * Executor con un buzón acotado (asíncrono), de modo que un observador lento no
+ * detenga la simulación. Ver GameEventBus.
+ * 
  * @author Snake Game
  * @version 1.0
  */
 public interface GameSubject {
     
     /**
-     * Registra un observador para recibir actualizaciones del juego.
+     * Registra un observador para recibir actualizaciones del juego en el hilo que
+     * actualiza el modelo, antes de que empiece el siguiente tick.
      * 
      * @param observer el observador a registrar
      */
     void registerObserver(GameObserver observer);
     
+    /**
+     * Registra un observador que recibe las actualizaciones en su propio Executor. Los
+     * cambios de cada tick le llegan reunidos en una sola notificación, y si no da
+     * abasto sus eventos pendientes se tratan según la política indicada.
+     * 
+     * @param observer el observador a registrar
+     * @param executor dónde se entregan las notificaciones (para Swing, el EDT)
+     * @param policy qué hacer con los eventos que se acumulan
+     * @param capacity eventos pendientes como máximo con DROP_OLDEST
+     */
+    void registerObserver(GameObserver observer, Executor executor, BackpressurePolicy policy, int capacity);
+    
     /**
      * Elimina un observador de la lista de notificaciones.
      * 
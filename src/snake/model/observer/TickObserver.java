@@ -0,0 +1,32 @@
+package snake.model.observer;
+
+import snake.model.Direction;
+
+/**
+ * Interfaz observador para cada tick de la simulación.
+ * 
+ * PATRÓN: Observer
+ * A diferencia de GameObserver, que informa a las Vistas de cambios visibles,
+ * TickObserver se notifica de forma síncrona al iniciar cada partida y en cada
+ * tick, con la dirección aplicada. Es lo que necesitan los grabadores de
+ * repeticiones para reproducir una partida exactamente.
+ * 
+ * @author Snake Game
+ * @version 1.0
+ */
+public interface TickObserver {
+    
+    /**
+     * Se llama cuando comienza una nueva partida.
+     * 
+     * @param gameSeed la semilla de la partida
+     */
+    void onGameStarted(long gameSeed);
+    
+    /**
+     * Se llama al comienzo de cada tick, con la dirección que se aplicará.
+     * 
+     * @param direction la dirección de movimiento aplicada en este tick
+     */
+    void onTick(Direction direction);
+}
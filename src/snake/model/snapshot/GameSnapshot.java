@@ -0,0 +1,436 @@
+package snake.model.snapshot;
+
+import snake.model.DeathCause;
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.GameState;
+import snake.model.Position;
+import snake.model.composite.SnakeBody;
+import snake.model.factory.Food;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Foto inmutable del estado del juego al final de un tick.
+ *
+ * Guarda las posiciones de la serpiente en arreglos primitivos (índice 0 = cabeza),
+ * la comida, la puntuación, la dirección y el estado, junto con el instante en que
+ * se publicó. Las posiciones se indexan además en una tabla hash abierta por celda,
+ * de modo que {@link #indexAt(int, int)} responde en O(1) qué componente ocupa una
+ * celda: una vista puede recorrer solo las celdas visibles sin recorrer la serpiente.
+ * Una vez publicada no cambia mientras alguien la retenga, así que puede leerse desde
+ * cualquier hilo sin bloqueos.
+ *
+ * Las fotos se reutilizan: SnapshotPublisher.acquire() devuelve una foto retenida y
+ * quien la obtiene debe llamar a {@link #release()} al terminar de leerla. Una foto
+ * sin retenciones vuelve al pool y se sobrescribe en un tick posterior.
+ *
+ * Al reutilizarse, una foto no se copia entera del modelo: el publicador le aplica los
+ * movimientos que se perdió desde que se llenó por última vez (cabeza nueva, cola
+ * descartada y crecimientos), cada uno en O(1). Las posiciones viven en un buffer
+ * circular y la tabla de celdas guarda un identificador por componente que no cambia
+ * al avanzar la serpiente, así que un tick cuesta lo mismo con cualquier longitud.
+ * Solo una partida nueva, o una foto retenida durante muchos ticks, se copia entera.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public final class GameSnapshot {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicInteger references = new AtomicInteger();
+
+    // Componente i (0 = cabeza) en xs/ys[(headSlot + i) & mask]. Su identificador es
+    // headId - i: la cabeza nueva recibe el siguiente y los demás conservan el suyo.
+    private int[] xs;
+    private int[] ys;
+    private int mask;
+    private int headSlot;
+    private int length;
+    private long headId;
+    // Celda -> identificador del componente de menor índice que la ocupa.
+    private long[] cellKeys;
+    private long[] cellIds;
+    private int cellShift;
+    private long segmentVersion = -1;
+    private Food food;
+    private Direction direction;
+    private GameState state;
+    private DeathCause deathCause;
+    private int score;
+    private long tick;
+    private long gameSeed;
+    private long publishedNanos;
+    private long tickDelayNanos;
+
+    GameSnapshot(int capacity) {
+        allocateSegments(capacity);
+        allocateCellTable(capacity);
+    }
+
+    /**
+     * Copia la serpiente entera del modelo. Solo la llama el publicador, con la foto
+     * reservada, cuando no puede ponerla al día movimiento a movimiento.
+     */
+    void copySegments(GameModel model) {
+        SnakeBody snake = model.getSnake();
+        int newLength = snake.getLength();
+        if (newLength > xs.length) {
+            allocateSegments(newLength);
+        }
+        if (cellKeys.length < newLength * 2 || cellKeys.length > Math.max(newLength, 2) * 8) {
+            // Tras una partida larga la tabla podría ser mucho mayor que la serpiente nueva:
+            // limpiarla entera costaría más que la propia copia.
+            allocateCellTable(newLength);
+        } else {
+            Arrays.fill(cellKeys, EMPTY);
+        }
+        headSlot = 0;
+        length = newLength;
+        headId = newLength;
+        for (int i = 0; i < newLength; i++) {
+            Position pos = snake.getPositionAt(i);
+            xs[i] = pos.getX();
+            ys[i] = pos.getY();
+        }
+        for (int i = newLength - 1; i >= 0; i--) {
+            indexCell(xs[i], ys[i], headId - i);
+        }
+    }
+
+    /**
+     * Aplica un tick: la cabeza entra en la celda dada, la cola se descarta y después
+     * se duplica la nueva cola tantas veces como creció la serpiente, igual que hace
+     * el modelo al comer.
+     */
+    void applyMove(int headX, int headY, int grows) {
+        if (length == xs.length) {
+            resizeSegments(length * 2);
+        }
+        headSlot = (headSlot - 1) & mask;
+        xs[headSlot] = headX;
+        ys[headSlot] = headY;
+        length++;
+        headId++;
+        indexCell(headX, headY, headId);
+
+        int tail = (headSlot + length - 1) & mask;
+        unindexCell(xs[tail], ys[tail], headId - (length - 1));
+        length--;
+
+        for (int i = 0; i < grows; i++) {
+            if (length == xs.length) {
+                resizeSegments(length * 2);
+            }
+            int last = (headSlot + length - 1) & mask;
+            int next = (last + 1) & mask;
+            xs[next] = xs[last];
+            ys[next] = ys[last];
+            length++;
+        }
+        if (cellKeys.length < length * 2) {
+            reindex(length);
+        }
+    }
+
+    /**
+     * Comprueba que la foto tiene la misma serpiente que el modelo, comparando la
+     * longitud y los extremos.
+     */
+    boolean matchesSegments(GameModel model) {
+        SnakeBody snake = model.getSnake();
+        if (snake.getLength() != length) {
+            return false;
+        }
+        Position head = snake.getPositionAt(0);
+        Position tail = snake.getTail();
+        return head.getX() == getHeadX() && head.getY() == getHeadY()
+                && tail.getX() == getTailX() && tail.getY() == getTailY();
+    }
+
+    /**
+     * Copia del modelo el resto del estado, que no depende de la longitud.
+     */
+    void copyState(GameModel model, long segmentVersion) {
+        this.segmentVersion = segmentVersion;
+        food = model.getCurrentFood();
+        direction = model.getCurrentDirection();
+        state = model.getGameState();
+        deathCause = model.getDeathCause();
+        score = model.getScore();
+        tick = model.getTickCount();
+        gameSeed = model.getGameSeed();
+        tickDelayNanos = Math.max(1, model.getMovementStrategy().getMovementDelay()) * 1_000_000L;
+        publishedNanos = System.nanoTime();
+    }
+
+    /**
+     * Obtiene la versión de la serpiente del publicador que refleja esta foto.
+     *
+     * @return la versión, o -1 si la foto nunca se llenó
+     */
+    long getSegmentVersion() {
+        return segmentVersion;
+    }
+
+    private void allocateSegments(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        xs = new int[size];
+        ys = new int[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Amplía el buffer circular dejando la cabeza en la posición 0.
+     */
+    private void resizeSegments(int capacity) {
+        int[] oldXs = xs;
+        int[] oldYs = ys;
+        int oldMask = mask;
+        allocateSegments(capacity);
+        for (int i = 0; i < length; i++) {
+            xs[i] = oldXs[(headSlot + i) & oldMask];
+            ys[i] = oldYs[(headSlot + i) & oldMask];
+        }
+        headSlot = 0;
+    }
+
+    /**
+     * Reserva la tabla de celdas con al menos el doble de entradas que componentes.
+     */
+    private void allocateCellTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        cellKeys = new long[size];
+        cellIds = new long[size];
+        cellShift = 64 - Integer.numberOfTrailingZeros(size);
+        Arrays.fill(cellKeys, EMPTY);
+    }
+
+    /**
+     * Vuelve a indexar la serpiente en una tabla del tamaño adecuado a su longitud.
+     */
+    private void reindex(int capacity) {
+        allocateCellTable(capacity);
+        for (int i = length - 1; i >= 0; i--) {
+            indexCell(getX(i), getY(i), headId - i);
+        }
+    }
+
+    private int slotOf(long key) {
+        return (int) ((key * GOLDEN_GAMMA) >>> cellShift);
+    }
+
+    /**
+     * Anota que un componente ocupa una celda. Un identificador mayor es un índice
+     * menor, que es el que se conserva si varios comparten celda (la cola tras crecer).
+     */
+    private void indexCell(int x, int y, long id) {
+        long key = Position.pack(x, y);
+        int tableMask = cellKeys.length - 1;
+        int slot = slotOf(key);
+        while (cellKeys[slot] != EMPTY && cellKeys[slot] != key) {
+            slot = (slot + 1) & tableMask;
+        }
+        if (cellKeys[slot] == EMPTY || cellIds[slot] < id) {
+            cellKeys[slot] = key;
+            cellIds[slot] = id;
+        }
+    }
+
+    /**
+     * Quita la cola de la tabla. Si la celda la anota otro componente, ese componente
+     * sigue ocupándola y la entrada se conserva. Si no, se borra desplazando hacia
+     * atrás las entradas siguientes de la secuencia de sondeo.
+     */
+    private void unindexCell(int x, int y, long id) {
+        long key = Position.pack(x, y);
+        int tableMask = cellKeys.length - 1;
+        int slot = slotOf(key);
+        while (cellKeys[slot] != key) {
+            if (cellKeys[slot] == EMPTY) {
+                return;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        if (cellIds[slot] != id) {
+            return;
+        }
+        int hole = slot;
+        int next = (hole + 1) & tableMask;
+        while (cellKeys[next] != EMPTY) {
+            int home = slotOf(cellKeys[next]);
+            // La entrada puede ocupar el hueco si su posición ideal no está entre el
+            // hueco (excluido) y su posición actual, contando en círculo.
+            if (((next - home) & tableMask) >= ((next - hole) & tableMask)) {
+                cellKeys[hole] = cellKeys[next];
+                cellIds[hole] = cellIds[next];
+                hole = next;
+            }
+            next = (next + 1) & tableMask;
+        }
+        cellKeys[hole] = EMPTY;
+    }
+
+    /**
+     * Reserva una foto libre del pool para escribirla.
+     */
+    boolean tryClaim() {
+        return references.compareAndSet(0, 1);
+    }
+
+    /**
+     * Retiene la foto si todavía está en uso (publicada o retenida por otro lector).
+     * Una foto libre no se puede retener porque el publicador podría sobrescribirla.
+     */
+    boolean tryRetain() {
+        while (true) {
+            int count = references.get();
+            if (count == 0) {
+                return false;
+            }
+            if (references.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una retención. La foto no debe leerse después de liberarla.
+     */
+    public void release() {
+        if (references.decrementAndGet() < 0) {
+            throw new IllegalStateException("GameSnapshot liberada más veces de las retenidas");
+        }
+    }
+
+    /**
+     * Obtiene el número de componentes de la serpiente (cabeza + segmentos).
+     *
+     * @return la longitud de la serpiente
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Obtiene la columna del componente en el índice dado (0 = cabeza).
+     *
+     * @param index el índice del componente
+     * @return la coordenada X
+     */
+    public int getX(int index) {
+        return xs[(headSlot + index) & mask];
+    }
+
+    /**
+     * Obtiene la fila del componente en el índice dado (0 = cabeza).
+     *
+     * @param index el índice del componente
+     * @return la coordenada Y
+     */
+    public int getY(int index) {
+        return ys[(headSlot + index) & mask];
+    }
+
+    /**
+     * Obtiene el componente de la serpiente que ocupa una celda.
+     *
+     * @param x la columna
+     * @param y la fila
+     * @return el índice del componente (0 = cabeza), o -1 si la celda está libre
+     */
+    public int indexAt(int x, int y) {
+        long key = Position.pack(x, y);
+        int tableMask = cellKeys.length - 1;
+        int slot = slotOf(key);
+        while (true) {
+            long probe = cellKeys[slot];
+            if (probe == key) {
+                return (int) (headId - cellIds[slot]);
+            }
+            if (probe == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    public int getHeadX() {
+        return xs[headSlot];
+    }
+
+    public int getHeadY() {
+        return ys[headSlot];
+    }
+
+    public int getTailX() {
+        return getX(length - 1);
+    }
+
+    public int getTailY() {
+        return getY(length - 1);
+    }
+
+    /**
+     * Obtiene la comida del tick, que es inmutable.
+     *
+     * @return la comida, o null si el tablero está lleno
+     */
+    public Food getFood() {
+        return food;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public DeathCause getDeathCause() {
+        return deathCause;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Obtiene el instante de publicación según System.nanoTime().
+     *
+     * @return el instante de publicación en nanosegundos
+     */
+    public long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * Obtiene el retardo entre ticks de la MovementStrategy vigente al publicar.
+     *
+     * @return el retardo en nanosegundos
+     */
+    public long getTickDelayNanos() {
+        return tickDelayNanos;
+    }
+
+    /**
+     * Indica si esta foto es el tick inmediatamente posterior a otra de la misma partida.
+     *
+     * @param previous la foto anterior
+     * @return true si ambas fotos son ticks consecutivos de la misma partida
+     */
+    public boolean follows(GameSnapshot previous) {
+        return previous != null && previous.gameSeed == gameSeed && previous.tick + 1 == tick;
+    }
+}
@@ -0,0 +1,160 @@
+package snake.model.snapshot;
+
+import snake.model.GameModel;
+import snake.model.Position;
+
+import java.util.Arrays;
+
+/**
+ * Publica fotos del estado del juego para lectores en cualquier hilo.
+ *
+ * El hilo que actualiza el modelo llama a publish() al final de cada tick: toma una
+ * foto libre del pool, la llena y la deja visible en un único campo volatile. Los
+ * lectores llaman a acquire(), que retiene la foto actual con un compareAndSet, y la
+ * liberan al terminar. No hay bloqueos ni copias por lectura, y en régimen estable
+ * tampoco reservas de memoria: el pool solo crece si los lectores retienen muchas
+ * fotos a la vez.
+ *
+ * La foto publicada conserva una retención propia hasta que la reemplaza la
+ * siguiente, así que nunca vuelve al pool mientras sea la actual.
+ *
+ * Cada publicación compara el modelo con la anterior: un tick más de la misma partida
+ * es un movimiento (la nueva cabeza y cuánto creció la serpiente), que se anota en un
+ * registro circular. Una foto reutilizada aplica los movimientos que se perdió en
+ * lugar de copiar la serpiente entera; con el pool rotando, son unos pocos por tick.
+ * Cualquier otro cambio (una partida nueva) obliga a copiarla una vez.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class SnapshotPublisher {
+    private static final int INITIAL_POOL_SIZE = 4;
+    private static final int LOG_SIZE = 64;
+
+    private volatile GameSnapshot current;
+    private GameSnapshot[] pool = new GameSnapshot[INITIAL_POOL_SIZE];
+    private int poolSize;
+    private int nextFree;
+
+    // Registro de movimientos: el de la versión v está en la posición v % LOG_SIZE.
+    private final int[] logHeadX = new int[LOG_SIZE];
+    private final int[] logHeadY = new int[LOG_SIZE];
+    private final int[] logGrows = new int[LOG_SIZE];
+    private long segmentVersion;
+    private long rebuildVersion;
+    private long lastSeed;
+    private long lastTick = -1;
+    private int lastLength;
+
+    /**
+     * Copia el estado del modelo en una foto y la publica.
+     * Debe llamarse siempre desde el hilo que actualiza el modelo.
+     *
+     * @param model el modelo a fotografiar
+     */
+    public void publish(GameModel model) {
+        recordSegments(model);
+        GameSnapshot snapshot = claim(model.getSnake().getLength());
+        updateSegments(snapshot, model);
+        snapshot.copyState(model, segmentVersion);
+        GameSnapshot previous = current;
+        current = snapshot;
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * Anota cómo cambió la serpiente desde la publicación anterior.
+     */
+    private void recordSegments(GameModel model) {
+        long seed = model.getGameSeed();
+        long tick = model.getTickCount();
+        int length = model.getSnake().getLength();
+        if (seed == lastSeed && tick == lastTick + 1 && length >= lastLength) {
+            segmentVersion++;
+            int slot = (int) (segmentVersion % LOG_SIZE);
+            Position head = model.getSnake().getPositionAt(0);
+            logHeadX[slot] = head.getX();
+            logHeadY[slot] = head.getY();
+            logGrows[slot] = length - lastLength;
+        } else if (seed != lastSeed || tick != lastTick || length != lastLength) {
+            segmentVersion++;
+            rebuildVersion = segmentVersion;
+        }
+        lastSeed = seed;
+        lastTick = tick;
+        lastLength = length;
+    }
+
+    /**
+     * Pone al día la serpiente de una foto reutilizada con los movimientos que se
+     * perdió, o la copia entera si no están todos en el registro.
+     */
+    private void updateSegments(GameSnapshot snapshot, GameModel model) {
+        long version = snapshot.getSegmentVersion();
+        if (version >= 0 && version >= rebuildVersion && segmentVersion - version <= LOG_SIZE) {
+            while (version < segmentVersion) {
+                version++;
+                int slot = (int) (version % LOG_SIZE);
+                snapshot.applyMove(logHeadX[slot], logHeadY[slot], logGrows[slot]);
+            }
+            if (snapshot.matchesSegments(model)) {
+                return;
+            }
+        }
+        snapshot.copySegments(model);
+    }
+
+    /**
+     * Retiene y devuelve la foto más reciente. Hay que llamar a
+     * {@link GameSnapshot#release()} al terminar de usarla.
+     *
+     * @return la foto actual retenida, o null si todavía no se publicó ninguna
+     */
+    public GameSnapshot acquire() {
+        while (true) {
+            GameSnapshot snapshot = current;
+            if (snapshot == null) {
+                return null;
+            }
+            if (snapshot.tryRetain()) {
+                // Si entre la lectura y la retención la foto fue reemplazada, puede que
+                // ya se esté reescribiendo: se suelta y se vuelve a intentar.
+                if (snapshot == current) {
+                    return snapshot;
+                }
+                snapshot.release();
+            }
+        }
+    }
+
+    /**
+     * Busca una foto libre recorriendo el pool en círculo, o agrega una nueva.
+     */
+    private GameSnapshot claim(int capacity) {
+        for (int i = 0; i < poolSize; i++) {
+            int index = (nextFree + i) % poolSize;
+            if (pool[index].tryClaim()) {
+                nextFree = (index + 1) % poolSize;
+                return pool[index];
+            }
+        }
+        if (poolSize == pool.length) {
+            pool = Arrays.copyOf(pool, pool.length * 2);
+        }
+        GameSnapshot snapshot = new GameSnapshot(capacity);
+        snapshot.tryClaim();
+        pool[poolSize++] = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Obtiene el número de fotos creadas, libres o en uso.
+     *
+     * @return el tamaño del pool
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
@@ -15,9 +15,10 @@ public interface MovementStrategy {
     
     /**
      * Obtiene el retardo entre ticks del juego en milisegundos.
-     * Valores más bajos significan movimiento más rápido.
+     * Valores más bajos significan movimiento más rápido. Con 0 no hay espera y los
+     * ticks se ejecutan seguidos tan rápido como permita la CPU.
      * 
-     * @return el retardo en milisegundos
+     * @return el retardo en milisegundos, 0 o mayor
      */
     int getMovementDelay();
     
@@ -0,0 +1,26 @@
+package snake.model.strategy;
+
+/**
+ * Estrategia de movimiento sin retardo - avance rápido.
+ * 
+ * PATRÓN: Strategy (Estrategia Concreta)
+ * TurboSpeed no espera entre ticks: el bucle del juego los ejecuta seguidos tan
+ * rápido como permita la CPU. Sirve para adelantar partidas de bots y para someter
+ * al modelo a carga; la vista no dibuja cada tick, sino a una tasa limitada.
+ * 
+ * @author Snake Game
+ * @version 1.0
+ */
+public class TurboSpeed implements MovementStrategy {
+    private static final int DELAY_MS = 0;
+
+    @Override
+    public int getMovementDelay() {
+        return DELAY_MS;
+    }
+
+    @Override
+    public String getName() {
+        return "Turbo";
+    }
+}
@@ -0,0 +1,547 @@
+package snake.net;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.GameState;
+import snake.model.observer.GameDelta;
+import snake.model.observer.GameObserver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor de partidas autoritativo sobre canales NIO no bloqueantes.
+ *
+ * El servidor posee un GameModel y es el único que lo simula. Los clientes envían
+ * direcciones (ver {@link Protocol}) y reciben el estado: un SNAPSHOT al conectar y
+ * al empezar cada partida, y después un DELTA por tick con la cabeza nueva, la cola
+ * liberada, la comida y la puntuación. Todos los clientes ven la misma partida y
+ * cualquiera puede girar la serpiente.
+ *
+ * Un único hilo atiende el Selector y ejecuta los ticks entre una selección y la
+ * siguiente. No se usa GameLoop porque su hilo tendría que compartir el modelo con el
+ * del Selector; así, las entradas, los ticks y las escrituras ocurren en el mismo
+ * hilo, en orden, sin bloqueos. Las direcciones recibidas entran por la InputQueue
+ * del modelo, igual que las del teclado, y se aplican en el tick siguiente.
+ *
+ * PATRÓN: Observer
+ * El servidor se registra como observador síncrono del modelo. Cada delta se codifica
+ * una sola vez en un buffer compartido y se copia al buffer de salida de cada cliente;
+ * tras el tick se escriben todos los buffers con escrituras no bloqueantes. Solo los
+ * clientes con datos pendientes tras esa escritura se registran para OP_WRITE.
+ *
+ * Cada cliente tiene un buffer de salida acotado, dimensionado para deltas. Si un
+ * cliente lento lo llena, deja de recibir deltas hasta que el buffer se vacíe y recibe
+ * entonces un SNAPSHOT nuevo: verá un salto en la secuencia, pero nunca retrasará al
+ * servidor ni a los demás clientes, y la memoria por cliente no crece. Los SNAPSHOT no
+ * se copian a ese buffer: se codifican una vez por secuencia, del tamaño de la
+ * serpiente y no del tablero, y cada cliente envía el mismo cuadro a través de una
+ * vista con su propia posición.
+ *
+ * Cuando la partida termina, el servidor empieza otra tras {@link #RESTART_TICKS}
+ * ticks.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameServer implements Closeable {
+    /**
+     * Ticks que se muestra una partida terminada antes de empezar la siguiente.
+     */
+    public static final int RESTART_TICKS = 20;
+
+    /**
+     * Capacidad por defecto del buffer de salida de cada cliente, en bytes.
+     */
+    public static final int DEFAULT_CLIENT_BUFFER = 8 * 1024;
+
+    /**
+     * Máximo de ticks atrasados que se ejecutan seguidos para recuperar el ritmo.
+     */
+    public static final int MAX_CATCH_UP_TICKS = 5;
+
+    private static final int BACKLOG = 1024;
+    private static final int INPUT_BUFFER = 64;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final GameModel model;
+    private final long tickNanos;
+    private final int clientBuffer;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final List<Client> clients;
+    private final ByteBuffer deltaFrame;
+    private final ByteBuffer input;
+    private final Thread thread;
+    private volatile boolean running;
+    private long lastSequence;
+    private ByteBuffer snapshotFrame;
+    private long snapshotSequence;
+    private int ticksSinceGameOver;
+
+    private volatile int clientCount;
+    private volatile long bytesSent;
+    private volatile long framesSent;
+    private volatile long resyncs;
+    private volatile long droppedInputs;
+
+    /**
+     * Crea un servidor con el buffer de salida por defecto y abre el puerto.
+     *
+     * @param model el modelo que simula el servidor
+     * @param port el puerto, o 0 para uno libre cualquiera
+     * @param tickMillis milisegundos entre ticks
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public GameServer(GameModel model, int port, long tickMillis) throws IOException {
+        this(model, new InetSocketAddress(port), tickMillis, DEFAULT_CLIENT_BUFFER);
+    }
+
+    /**
+     * Crea un servidor y abre el puerto. El servidor no atiende a nadie hasta start().
+     *
+     * @param model el modelo que simula el servidor; no debe tocarse desde otros hilos
+     * @param address la dirección en la que escuchar
+     * @param tickMillis milisegundos entre ticks
+     * @param clientBuffer bytes de deltas pendientes por cliente como máximo, al menos
+     *                     {@link Protocol#MAX_DELTA_BYTES}
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public GameServer(GameModel model, InetSocketAddress address, long tickMillis, int clientBuffer)
+            throws IOException {
+        int width = model.getPositionCache().getWidth();
+        int height = model.getPositionCache().getHeight();
+        if (width > Protocol.MAX_BOARD_SIZE || height > Protocol.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("El tablero no cabe en el protocolo: " + width + "x" + height);
+        }
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("El tick debe ser positivo: " + tickMillis);
+        }
+        if (clientBuffer < Protocol.MAX_DELTA_BYTES) {
+            throw new IllegalArgumentException("El buffer de cada cliente no admite un DELTA: " + clientBuffer);
+        }
+        this.model = model;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.clientBuffer = clientBuffer;
+        this.clients = new ArrayList<>();
+        this.deltaFrame = ByteBuffer.allocate(Protocol.MAX_DELTA_BYTES);
+        this.input = ByteBuffer.allocate(INPUT_BUFFER);
+
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(address, BACKLOG);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::run, "snake-server");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return el puerto, también cuando se pidió el 0
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Empieza una partida nueva y arranca el hilo del servidor.
+     */
+    public void start() {
+        model.registerObserver(new DeltaBroadcaster());
+        model.initializeGame();
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Detiene el servidor, espera a su hilo y cierra todas las conexiones.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            shutdown();
+        }
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                if (now - nextTick >= 0) {
+                    for (int i = 0; i < MAX_CATCH_UP_TICKS && now - nextTick >= 0; i++) {
+                        tick();
+                        nextTick += tickNanos;
+                    }
+                    if (now - nextTick >= 0) {
+                        // Demasiado atrasado: se descartan los ticks perdidos.
+                        nextTick = now + tickNanos;
+                    }
+                    flushAll();
+                }
+
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(nextTick - System.nanoTime() + 999_999L);
+                if (waitMillis > 0) {
+                    selector.select(waitMillis);
+                } else {
+                    selector.selectNow();
+                }
+                handleSelectedKeys();
+            }
+        } catch (IOException e) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        } finally {
+            shutdown();
+        }
+    }
+
+    /**
+     * Ejecuta un tick. El observador copia el delta a los clientes durante update().
+     */
+    private void tick() {
+        if (model.getGameState() == GameState.GAME_OVER) {
+            if (++ticksSinceGameOver >= RESTART_TICKS) {
+                ticksSinceGameOver = 0;
+                model.initializeGame();
+            }
+            return;
+        }
+        model.update();
+    }
+
+    private void handleSelectedKeys() {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                continue;
+            }
+            Client client = (Client) key.attachment();
+            if (key.isReadable()) {
+                read(client);
+            }
+            if (key.isValid() && key.isWritable()) {
+                flush(client);
+            }
+        }
+    }
+
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                // Normalmente, sin descriptores libres: se reintentará en la próxima selección.
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Client client = new Client(channel, clientBuffer);
+                client.key = channel.register(selector, SelectionKey.OP_READ, client);
+                clients.add(client);
+                clientCount = clients.size();
+                attachSnapshot(client);
+                flush(client);
+            } catch (IOException e) {
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    /**
+     * Lee las direcciones recibidas y las deja en la cola de entrada del modelo.
+     */
+    private void read(Client client) {
+        input.clear();
+        int read;
+        try {
+            read = client.channel.read(input);
+        } catch (IOException e) {
+            disconnect(client);
+            return;
+        }
+        if (read < 0) {
+            disconnect(client);
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < read; i++) {
+            int command = input.get(i);
+            if (command >= 0 && command < DIRECTIONS.length
+                    && !model.getInputQueue().offer(DIRECTIONS[command], now)) {
+                droppedInputs++;
+            }
+        }
+    }
+
+    /**
+     * Copia un cuadro al buffer de un cliente. Si no cabe, el cliente pasa a esperar
+     * un SNAPSHOT y los cuadros siguientes se omiten hasta que lo reciba.
+     */
+    private void append(Client client, ByteBuffer frame) {
+        if (client.needsSnapshot) {
+            return;
+        }
+        if (client.out.remaining() < frame.remaining()) {
+            client.needsSnapshot = true;
+            resyncs++;
+            return;
+        }
+        client.out.put(frame.duplicate());
+        framesSent++;
+    }
+
+    /**
+     * Asigna al cliente el SNAPSHOT del estado actual si lo espera y ya no tiene nada
+     * pendiente de enviar, de modo que los deltas siguientes salen detrás de él.
+     */
+    private void attachSnapshot(Client client) {
+        if (!client.needsSnapshot || client.snapshot != null || client.out.position() > 0) {
+            return;
+        }
+        client.snapshot = currentSnapshot();
+        client.needsSnapshot = false;
+        framesSent++;
+    }
+
+    /**
+     * Obtiene una vista propia del SNAPSHOT de la última secuencia. El cuadro se
+     * codifica una sola vez por secuencia y no se modifica después, porque puede haber
+     * clientes enviándolo todavía; cuando cambia la secuencia se codifica en uno nuevo
+     * del tamaño de la serpiente actual.
+     */
+    private ByteBuffer currentSnapshot() {
+        if (snapshotFrame == null || snapshotSequence != lastSequence) {
+            ByteBuffer frame = ByteBuffer.allocate(Protocol.snapshotBytes(model.getSnake().getLength()));
+            Protocol.writeSnapshot(model, lastSequence, frame);
+            frame.flip();
+            snapshotFrame = frame;
+            snapshotSequence = lastSequence;
+        }
+        return snapshotFrame.duplicate();
+    }
+
+    private void flushAll() {
+        for (int i = clients.size() - 1; i >= 0; i--) {
+            Client client = clients.get(i);
+            if (client.hasPendingOutput() && (client.key.interestOps() & SelectionKey.OP_WRITE) == 0) {
+                flush(client);
+            }
+        }
+    }
+
+    /**
+     * Escribe lo que admita el socket sin bloquear: primero el SNAPSHOT pendiente y
+     * después los deltas. Si queda algo pendiente, espera a OP_WRITE; si el buffer se
+     * vació, aprovecha para enviar el SNAPSHOT que esperaba el cliente.
+     */
+    private void flush(Client client) {
+        ByteBuffer out = client.out;
+        try {
+            if (writeSnapshot(client)) {
+                out.flip();
+                bytesSent += client.channel.write(out);
+                out.compact();
+                if (client.needsSnapshot) {
+                    attachSnapshot(client);
+                    writeSnapshot(client);
+                }
+            }
+        } catch (IOException e) {
+            disconnect(client);
+            return;
+        }
+        int ops = client.hasPendingOutput() || client.needsSnapshot
+                ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                : SelectionKey.OP_READ;
+        if (client.key.interestOps() != ops) {
+            client.key.interestOps(ops);
+        }
+    }
+
+    /**
+     * Escribe lo que quede del SNAPSHOT asignado al cliente.
+     *
+     * @return true si no queda nada del SNAPSHOT por enviar
+     */
+    private boolean writeSnapshot(Client client) throws IOException {
+        if (client.snapshot == null) {
+            return true;
+        }
+        bytesSent += client.channel.write(client.snapshot);
+        if (client.snapshot.hasRemaining()) {
+            return false;
+        }
+        client.snapshot = null;
+        return true;
+    }
+
+    private void disconnect(Client client) {
+        client.key.cancel();
+        closeQuietly(client.channel);
+        clients.remove(client);
+        clientCount = clients.size();
+    }
+
+    private void shutdown() {
+        for (Client client : clients) {
+            closeQuietly(client.channel);
+        }
+        clients.clear();
+        clientCount = 0;
+        closeQuietly(serverChannel);
+        closeQuietly(selector);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Se está cerrando: no hay nada más que hacer con el error.
+        }
+    }
+
+    /**
+     * Obtiene el número de clientes conectados.
+     *
+     * @return clientes conectados
+     */
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    /**
+     * Obtiene los bytes enviados a todos los clientes.
+     *
+     * @return bytes enviados
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Obtiene los cuadros copiados a los buffers de salida de los clientes.
+     *
+     * @return cuadros DELTA y SNAPSHOT encolados
+     */
+    public long getFramesSent() {
+        return framesSent;
+    }
+
+    /**
+     * Obtiene cuántas veces un cliente llenó su buffer y tuvo que resincronizarse.
+     *
+     * @return resincronizaciones
+     */
+    public long getResyncs() {
+        return resyncs;
+    }
+
+    /**
+     * Obtiene las direcciones descartadas porque la cola de entrada del modelo estaba llena.
+     *
+     * @return direcciones descartadas
+     */
+    public long getDroppedInputs() {
+        return droppedInputs;
+    }
+
+    /**
+     * Codifica cada delta del modelo una vez y lo reparte entre los clientes.
+     */
+    private final class DeltaBroadcaster implements GameObserver {
+        @Override
+        public void onGameDelta(GameDelta delta) {
+            lastSequence = delta.getSequence();
+            if (delta.isReset()) {
+                // Una partida nueva no es un cambio aplicable: todos esperan el estado entero,
+                // que reciben en cuanto hayan enviado lo que tenían pendiente.
+                for (int i = 0; i < clients.size(); i++) {
+                    Client client = clients.get(i);
+                    client.needsSnapshot = true;
+                    attachSnapshot(client);
+                }
+                return;
+            }
+            deltaFrame.clear();
+            Protocol.writeDelta(delta, deltaFrame);
+            deltaFrame.flip();
+            for (int i = 0; i < clients.size(); i++) {
+                append(clients.get(i), deltaFrame);
+            }
+        }
+
+        @Override
+        public void onGameUpdated() {
+        }
+
+        @Override
+        public void onGameOver(int finalScore) {
+        }
+
+        @Override
+        public void onScoreChanged(int newScore) {
+        }
+    }
+
+    /**
+     * Conexión de un cliente y sus bytes pendientes de enviar: el SNAPSHOT compartido
+     * que está enviando, si hay uno, y detrás los deltas de su buffer.
+     */
+    private static final class Client {
+        final SocketChannel channel;
+        final ByteBuffer out;
+        ByteBuffer snapshot;
+        SelectionKey key;
+        boolean needsSnapshot = true;
+
+        Client(SocketChannel channel, int capacity) {
+            this.channel = channel;
+            this.out = ByteBuffer.allocate(capacity);
+        }
+
+        boolean hasPendingOutput() {
+            return snapshot != null || out.position() > 0;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package snake.net;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generador de carga para el servidor de partidas: simula miles de clientes desde
+ * un único hilo con un Selector.
+ *
+ * Uso: {@code java -cp out snake.net.LoadGenerator [clientes] [segundos] [host] [puerto]}
+ *
+ * Sin host, arranca un GameServer en un puerto libre de la interfaz de loopback, de
+ * modo que la prueba entera se hace en la misma máquina. Cada cliente decodifica
+ * todos los cuadros que recibe y sigue la partida: aplica los DELTA, comprueba que
+ * sus secuencias son consecutivas y se resincroniza con cada SNAPSHOT. Algunos
+ * clientes envían además direcciones al azar. Al terminar se informa de los cuadros
+ * recibidos, los saltos de secuencia y si los clientes que llegaron a la misma
+ * secuencia ven todos el mismo estado.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class LoadGenerator implements Closeable {
+    private static final int DEFAULT_CLIENTS = 2000;
+    private static final long DEFAULT_SECONDS = 10;
+    private static final long EMBEDDED_TICK_MILLIS = 50;
+    private static final int READ_BUFFER = 4 * 1024;
+    private static final long SELECT_MILLIS = 10;
+    private static final int INPUTS_PER_SELECT = 4;
+
+    private final Selector selector;
+    private final List<Connection> connections;
+    private final SplittableRandom random;
+    private final ByteBuffer command;
+    private int connected;
+    private int failed;
+
+    /**
+     * Abre las conexiones. Se completan durante {@link #run(long)}.
+     *
+     * @param address la dirección del servidor
+     * @param clients el número de clientes
+     * @param seed semilla de las direcciones enviadas
+     * @throws IOException si no se puede abrir el Selector
+     */
+    public LoadGenerator(InetSocketAddress address, int clients, long seed) throws IOException {
+        this.selector = Selector.open();
+        this.connections = new ArrayList<>(clients);
+        this.random = new SplittableRandom(seed);
+        this.command = ByteBuffer.allocate(1);
+        for (int i = 0; i < clients; i++) {
+            SocketChannel channel = SocketChannel.open();
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Connection connection = new Connection(channel);
+                if (channel.connect(address)) {
+                    channel.register(selector, SelectionKey.OP_READ, connection);
+                    connected++;
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, connection);
+                }
+                connections.add(connection);
+            } catch (IOException e) {
+                channel.close();
+                failed++;
+            }
+        }
+    }
+
+    /**
+     * Atiende las conexiones durante el tiempo dado.
+     *
+     * @param seconds duración de la prueba
+     * @throws IOException si falla el Selector
+     */
+    public void run(long seconds) throws IOException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() - end < 0) {
+            selector.select(SELECT_MILLIS);
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                Connection connection = (Connection) key.attachment();
+                if (key.isValid() && key.isConnectable()) {
+                    finishConnect(key, connection);
+                } else if (key.isValid() && key.isReadable()) {
+                    read(key, connection);
+                }
+            }
+            sendInputs();
+        }
+    }
+
+    private void finishConnect(SelectionKey key, Connection connection) {
+        try {
+            if (connection.channel.finishConnect()) {
+                key.interestOps(SelectionKey.OP_READ);
+                connected++;
+            }
+        } catch (IOException e) {
+            key.cancel();
+            connection.closed = true;
+            failed++;
+        }
+    }
+
+    private void read(SelectionKey key, Connection connection) {
+        try {
+            int read = connection.channel.read(connection.in);
+            if (read < 0) {
+                key.cancel();
+                connection.closed = true;
+                return;
+            }
+            connection.bytes += read;
+            connection.decode();
+        } catch (IOException e) {
+            key.cancel();
+            connection.closed = true;
+        }
+    }
+
+    /**
+     * Envía unas pocas direcciones al azar desde clientes al azar.
+     */
+    private void sendInputs() {
+        for (int i = 0; i < INPUTS_PER_SELECT; i++) {
+            Connection connection = connections.get(random.nextInt(connections.size()));
+            if (connection.closed || !connection.channel.isConnected()) {
+                continue;
+            }
+            command.clear();
+            command.put((byte) random.nextInt(Direction.values().length)).flip();
+            try {
+                connection.inputs += connection.channel.write(command);
+            } catch (IOException e) {
+                connection.closed = true;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Connection connection : connections) {
+            connection.channel.close();
+        }
+        selector.close();
+    }
+
+    /**
+     * Muestra el resumen de lo recibido por todos los clientes.
+     *
+     * @param seconds duración de la prueba, para calcular los ritmos
+     */
+    public void printSummary(long seconds) {
+        long snapshots = 0;
+        long deltas = 0;
+        long gaps = 0;
+        long bytes = 0;
+        long inputs = 0;
+        int open = 0;
+        int inconsistent = 0;
+        Connection latest = null;
+        Map<Long, Connection> bySequence = new HashMap<>();
+        for (Connection connection : connections) {
+            snapshots += connection.snapshots;
+            deltas += connection.deltas;
+            gaps += connection.gaps;
+            bytes += connection.bytes;
+            inputs += connection.inputs;
+            if (!connection.closed) {
+                open++;
+            }
+            if (!connection.synced) {
+                continue;
+            }
+            // Los clientes que han llegado a la misma secuencia deben ver el mismo estado.
+            Connection reference = bySequence.putIfAbsent(connection.sequence, connection);
+            if (reference != null && !connection.sameStateAs(reference)) {
+                inconsistent++;
+            }
+            if (latest == null || connection.sequence > latest.sequence) {
+                latest = connection;
+            }
+        }
+        System.out.println("Clientes: " + connections.size() + " (conectados " + connected
+                + ", abiertos al final " + open + ", fallidos " + failed + ")");
+        System.out.printf("Recibido: %d SNAPSHOT, %d DELTA (%.0f DELTA/s), %.1f MB%n",
+                snapshots, deltas, (double) deltas / seconds, bytes / 1024.0 / 1024.0);
+        System.out.println("Saltos de secuencia: " + gaps + ", direcciones enviadas: " + inputs);
+        if (latest != null) {
+            System.out.println("Estado final: secuencia " + latest.sequence + ", cabeza " + latest.headX
+                    + "," + latest.headY + ", puntuación " + latest.score
+                    + "; clientes con un estado distinto en la misma secuencia: " + inconsistent);
+        }
+    }
+
+    /**
+     * Punto de entrada del generador de carga.
+     *
+     * @param args clientes, segundos, host y puerto (opcionales)
+     * @throws IOException si falla la red
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SECONDS;
+
+        GameServer server = null;
+        InetSocketAddress address;
+        if (args.length > 3) {
+            address = new InetSocketAddress(args[2], Integer.parseInt(args[3]));
+        } else {
+            server = new GameServer(new GameModel(),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                    EMBEDDED_TICK_MILLIS, GameServer.DEFAULT_CLIENT_BUFFER);
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            System.out.println("Servidor integrado en " + address + ", un tick cada " + EMBEDDED_TICK_MILLIS + " ms");
+        }
+
+        try (LoadGenerator generator = new LoadGenerator(address, clients, System.nanoTime())) {
+            generator.run(seconds);
+            generator.printSummary(seconds);
+            if (server != null) {
+                System.out.printf("Servidor: %d clientes, %d cuadros, %.1f MB enviados, %d resincronizaciones%n",
+                        server.getClientCount(), server.getFramesSent(),
+                        server.getBytesSent() / 1024.0 / 1024.0, server.getResyncs());
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * Un cliente simulado: su conexión y lo que sabe de la partida.
+     */
+    private static final class Connection {
+        final SocketChannel channel;
+        ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);
+        boolean closed;
+        boolean synced;
+        long sequence;
+        int headX;
+        int headY;
+        int score;
+        long snapshots;
+        long deltas;
+        long gaps;
+        long bytes;
+        long inputs;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Procesa los cuadros completos del buffer de entrada y deja el resto para
+         * la siguiente lectura.
+         */
+        void decode() {
+            in.flip();
+            while (in.remaining() >= 4) {
+                int length = in.getInt(in.position());
+                if (in.remaining() < 4 + length) {
+                    if (4 + length > in.capacity()) {
+                        // Un SNAPSHOT mayor que el buffer: se amplía para que quepa.
+                        ByteBuffer larger = ByteBuffer.allocate(4 + length);
+                        larger.put(in);
+                        in = larger;
+                        return;
+                    }
+                    break;
+                }
+                int next = in.position() + 4 + length;
+                in.position(in.position() + 4);
+                byte type = in.get();
+                if (type == Protocol.SNAPSHOT) {
+                    readSnapshot();
+                } else if (type == Protocol.DELTA) {
+                    readDelta();
+                }
+                in.position(next);
+            }
+            in.compact();
+        }
+
+        private void readSnapshot() {
+            snapshots++;
+            sequence = in.getInt();
+            in.getLong();
+            in.getInt();
+            in.getShort();
+            in.getShort();
+            in.get();
+            score = in.getInt();
+            in.position(in.position() + 5);
+            int length = in.getInt();
+            if (length > 0) {
+                headX = in.getShort();
+                headY = in.getShort();
+            }
+            synced = true;
+        }
+
+        private void readDelta() {
+            deltas++;
+            long seq = in.getInt();
+            int flags = in.get();
+            if (!synced) {
+                return;
+            }
+            if (seq != sequence + 1) {
+                // Se perdieron deltas: hasta el próximo SNAPSHOT no se sabe el estado.
+                gaps++;
+                synced = false;
+                return;
+            }
+            sequence = seq;
+            if ((flags & Protocol.HAS_HEAD) != 0) {
+                headX = in.getShort();
+                headY = in.getShort();
+            }
+            if ((flags & Protocol.HAS_TAIL) != 0) {
+                in.getInt();
+            }
+            if ((flags & Protocol.HAS_FOOD) != 0) {
+                in.position(in.position() + 5);
+            }
+            if ((flags & Protocol.HAS_SCORE) != 0) {
+                score = in.getInt();
+            }
+        }
+
+        boolean sameStateAs(Connection other) {
+            return synced && sequence == other.sequence && headX == other.headX
+                    && headY == other.headY && score == other.score;
+        }
+    }
+}
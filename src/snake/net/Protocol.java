@@ -0,0 +1,209 @@
+package snake.net;
+
+import snake.model.GameModel;
+import snake.model.GameState;
+import snake.model.Position;
+import snake.model.factory.Food;
+import snake.model.observer.GameDelta;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Formato binario del servidor de partidas.
+ *
+ * Servidor a cliente: cada mensaje es un cuadro {@code [longitud i32][tipo u8][datos]},
+ * donde la longitud cuenta el tipo y los datos. Todos los enteros van en big-endian y
+ * las coordenadas en i16 (la cabeza puede quedar en -1 al chocar con la pared).
+ * <ul>
+ *   <li>{@link #SNAPSHOT}: secuencia i32, semilla i64, tick i32, ancho i16, alto i16,
+ *       estado u8, puntuación i32, comida (x i16, y i16, puntos u8; x = -1 sin comida),
+ *       longitud i32 y las celdas de la serpiente de la cabeza a la cola (x i16, y i16).
+ *       Se envía al conectar, al empezar cada partida y a los clientes que se retrasan.</li>
+ *   <li>{@link #DELTA}: secuencia i32 y banderas u8, seguidas solo de los campos que
+ *       indican las banderas, en este orden: cabeza (x i16, y i16), cola liberada
+ *       (x i16, y i16), comida nueva (x i16, y i16, puntos u8), puntuación i32 y estado
+ *       u8. Un tick normal ocupa 18 bytes con el cuadro.</li>
+ * </ul>
+ * Un cliente aplica cada DELTA cuya secuencia sigue a la anterior: quita la cola
+ * liberada y añade la cabeza. Si ve un salto, espera al siguiente SNAPSHOT.
+ *
+ * Cliente a servidor: un byte por orden, el ordinal de {@link snake.model.Direction}.
+ * Cualquier otro valor se ignora.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public final class Protocol {
+    /**
+     * Estado completo de la partida.
+     */
+    public static final byte SNAPSHOT = 1;
+
+    /**
+     * Cambios de un tick.
+     */
+    public static final byte DELTA = 2;
+
+    /**
+     * Bandera de DELTA: hay cabeza nueva.
+     */
+    public static final int HAS_HEAD = 1;
+
+    /**
+     * Bandera de DELTA: la cola liberó una celda.
+     */
+    public static final int HAS_TAIL = 1 << 1;
+
+    /**
+     * Bandera de DELTA: la comida cambió.
+     */
+    public static final int HAS_FOOD = 1 << 2;
+
+    /**
+     * Bandera de DELTA: la puntuación cambió.
+     */
+    public static final int HAS_SCORE = 1 << 3;
+
+    /**
+     * Bandera de DELTA: el estado de la partida cambió.
+     */
+    public static final int HAS_STATE = 1 << 4;
+
+    /**
+     * Bytes de la cabecera de cada cuadro (longitud y tipo).
+     */
+    public static final int HEADER_BYTES = 5;
+
+    /**
+     * Tamaño máximo de un DELTA con todos sus campos, cabecera incluida.
+     */
+    public static final int MAX_DELTA_BYTES = HEADER_BYTES + 4 + 1 + 4 + 4 + 5 + 4 + 1;
+
+    /**
+     * Mayor ancho o alto de tablero que admiten las coordenadas i16.
+     */
+    public static final int MAX_BOARD_SIZE = Short.MAX_VALUE;
+
+    private static final GameState[] STATES = GameState.values();
+
+    private Protocol() {
+    }
+
+    /**
+     * Escribe un cuadro DELTA.
+     *
+     * @param delta los cambios del tick
+     * @param out el buffer de destino, con al menos MAX_DELTA_BYTES libres
+     */
+    public static void writeDelta(GameDelta delta, ByteBuffer out) {
+        int flags = 0;
+        if (delta.hasMoved()) {
+            flags |= HAS_HEAD;
+        }
+        if (delta.hasTailRemoved()) {
+            flags |= HAS_TAIL;
+        }
+        if (delta.isFoodChanged()) {
+            flags |= HAS_FOOD;
+        }
+        if (delta.getScoreDelta() != 0) {
+            flags |= HAS_SCORE;
+        }
+        if (delta.isStateChanged()) {
+            flags |= HAS_STATE;
+        }
+
+        int start = beginFrame(out, DELTA);
+        out.putInt((int) delta.getSequence());
+        out.put((byte) flags);
+        if ((flags & HAS_HEAD) != 0) {
+            putCell(out, delta.getHeadX(), delta.getHeadY());
+        }
+        if ((flags & HAS_TAIL) != 0) {
+            putCell(out, delta.getTailX(), delta.getTailY());
+        }
+        if ((flags & HAS_FOOD) != 0) {
+            putFood(out, delta.getFood());
+        }
+        if ((flags & HAS_SCORE) != 0) {
+            out.putInt(delta.getScore());
+        }
+        if ((flags & HAS_STATE) != 0) {
+            out.put((byte) delta.getState().ordinal());
+        }
+        endFrame(out, start);
+    }
+
+    /**
+     * Obtiene el tamaño de un SNAPSHOT de una serpiente de la longitud dada.
+     *
+     * @param snakeLength segmentos de la serpiente
+     * @return bytes del cuadro, cabecera incluida
+     */
+    public static int snapshotBytes(int snakeLength) {
+        return HEADER_BYTES + 4 + 8 + 4 + 2 + 2 + 1 + 4 + 5 + 4 + snakeLength * 4;
+    }
+
+    /**
+     * Escribe un cuadro SNAPSHOT con el estado actual del modelo. Recorre la serpiente
+     * entera, así que solo se usa al conectar, al reiniciar o para resincronizar.
+     *
+     * @param model el modelo
+     * @param sequence la secuencia del último delta publicado
+     * @param out el buffer de destino, con al menos snapshotBytes() libres
+     */
+    public static void writeSnapshot(GameModel model, long sequence, ByteBuffer out) {
+        List<Position> segments = model.getSnake().getAllPositions();
+        int start = beginFrame(out, SNAPSHOT);
+        out.putInt((int) sequence);
+        out.putLong(model.getGameSeed());
+        out.putInt((int) model.getTickCount());
+        out.putShort((short) model.getPositionCache().getWidth());
+        out.putShort((short) model.getPositionCache().getHeight());
+        out.put((byte) model.getGameState().ordinal());
+        out.putInt(model.getScore());
+        putFood(out, model.getCurrentFood());
+        out.putInt(segments.size());
+        for (Position segment : segments) {
+            putCell(out, segment.getX(), segment.getY());
+        }
+        endFrame(out, start);
+    }
+
+    /**
+     * Lee el estado de un byte de estado.
+     *
+     * @param ordinal el byte leído
+     * @return el estado
+     */
+    public static GameState stateOf(int ordinal) {
+        return STATES[ordinal];
+    }
+
+    private static int beginFrame(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putInt(0);
+        out.put(type);
+        return start;
+    }
+
+    private static void endFrame(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - 4);
+    }
+
+    private static void putCell(ByteBuffer out, int x, int y) {
+        out.putShort((short) x);
+        out.putShort((short) y);
+    }
+
+    private static void putFood(ByteBuffer out, Food food) {
+        if (food == null) {
+            putCell(out, -1, -1);
+            out.put((byte) 0);
+        } else {
+            putCell(out, food.getPosition().getX(), food.getPosition().getY());
+            out.put((byte) food.getPoints());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package snake.net;
+
+import snake.model.GameModel;
+
+import java.io.IOException;
+
+/**
+ * Punto de entrada para ejecutar el servidor de partidas sin interfaz gráfica.
+ *
+ * Uso: {@code java -cp out snake.net.ServerMain [puerto] [msPorTick]}
+ *
+ * Muestra cada pocos segundos los clientes conectados y el tráfico enviado. Se
+ * detiene con Ctrl+C.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ServerMain {
+    private static final int DEFAULT_PORT = 7777;
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final long REPORT_MILLIS = 5_000;
+
+    /**
+     * Punto de entrada del servidor.
+     *
+     * @param args puerto y milisegundos por tick (opcionales)
+     * @throws IOException si no se puede abrir el puerto
+     * @throws InterruptedException si se interrumpe el hilo principal
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long tickMillis = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TICK_MILLIS;
+
+        GameServer server = new GameServer(new GameModel(), port, tickMillis);
+        server.start();
+        System.out.println("Servidor escuchando en el puerto " + server.getPort() + ", un tick cada " + tickMillis + " ms");
+
+        long lastBytes = 0;
+        while (true) {
+            Thread.sleep(REPORT_MILLIS);
+            long bytes = server.getBytesSent();
+            System.out.printf("Clientes: %d, enviados: %.1f KB/s, cuadros: %d, resincronizaciones: %d%n",
+                    server.getClientCount(), (bytes - lastBytes) / 1024.0 / (REPORT_MILLIS / 1000.0),
+                    server.getFramesSent(), server.getResyncs());
+            lastBytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package snake.replay;
+
+import snake.model.Direction;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Repetición compacta e inmutable de una partida.
+ *
+ * Como GameModel es determinista dada la semilla de la partida, basta con guardar
+ * la semilla y la dirección aplicada en cada tick. Las direcciones se codifican con
+ * 2 bits (ordinal de Direction) y se comprimen por longitud de racha: cada racha es
+ * un varint con {@code (longitud << 2) | dirección}. Una partida de 100k ticks con
+ * un giro cada ~10 ticks ocupa unos 10-20 KB, y mucho menos si los giros son escasos.
+ *
+ * Formato binario: "SNKR", versión, ancho, alto, longitud inicial, semilla, ticks, bytes
+ * de rachas, rachas. La cuadrícula y la longitud inicial de la serpiente se guardan
+ * porque también determinan la partida: reproducirla con otras diverge.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class Replay {
+    private static final int MAGIC = 0x534E4B52;
+    private static final int VERSION = 2;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int gridWidth;
+    private final int gridHeight;
+    private final int initialSnakeLength;
+    private final long gameSeed;
+    private final long tickCount;
+    private final byte[] runs;
+
+    /**
+     * Crea una repetición a partir de sus datos codificados.
+     *
+     * @param gridWidth ancho de la cuadrícula de la partida
+     * @param gridHeight altura de la cuadrícula de la partida
+     * @param initialSnakeLength longitud inicial de la serpiente en la partida
+     * @param gameSeed la semilla de la partida
+     * @param tickCount número de ticks grabados
+     * @param runs las rachas codificadas como varints
+     */
+    public Replay(int gridWidth, int gridHeight, int initialSnakeLength, long gameSeed, long tickCount,
+                  byte[] runs) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.initialSnakeLength = initialSnakeLength;
+        this.gameSeed = gameSeed;
+        this.tickCount = tickCount;
+        this.runs = runs.clone();
+    }
+
+    /**
+     * Escribe la repetición en formato binario.
+     *
+     * @param out el flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(gridWidth);
+        data.writeInt(gridHeight);
+        data.writeInt(initialSnakeLength);
+        data.writeLong(gameSeed);
+        data.writeLong(tickCount);
+        data.writeInt(runs.length);
+        data.write(runs);
+        data.flush();
+    }
+
+    /**
+     * Lee una repetición en formato binario.
+     *
+     * @param in el flujo de entrada
+     * @return la repetición leída
+     * @throws IOException si falla la lectura o el formato no es válido
+     */
+    public static Replay readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("No es un archivo de repetición");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Versión de repetición no soportada: " + version);
+        }
+        int width = data.readInt();
+        int height = data.readInt();
+        int initialLength = data.readInt();
+        long seed = data.readLong();
+        long ticks = data.readLong();
+        byte[] runs = new byte[data.readInt()];
+        data.readFully(runs);
+        return new Replay(width, height, initialLength, seed, ticks, runs);
+    }
+
+    /**
+     * Crea un cursor para recorrer las direcciones tick a tick.
+     *
+     * @return un nuevo cursor al comienzo de la repetición
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    public int getInitialSnakeLength() {
+        return initialSnakeLength;
+    }
+
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Obtiene el tamaño de las rachas codificadas en bytes.
+     *
+     * @return tamaño de los datos de entrada
+     */
+    public int getEncodedSize() {
+        return runs.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Replay replay = (Replay) o;
+        return gridWidth == replay.gridWidth && gridHeight == replay.gridHeight
+                && initialSnakeLength == replay.initialSnakeLength && gameSeed == replay.gameSeed && tickCount == replay.tickCount
+                && Arrays.equals(runs, replay.runs);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(gameSeed) + Arrays.hashCode(runs);
+    }
+
+    /**
+     * Recorre las direcciones de la repetición decodificando las rachas bajo demanda.
+     */
+    public class Cursor {
+        private int offset;
+        private Direction current;
+        private long remaining;
+
+        /**
+         * Obtiene la dirección del siguiente tick.
+         *
+         * @return la dirección, o null si no quedan ticks grabados
+         */
+        public Direction next() {
+            if (remaining == 0) {
+                if (offset >= runs.length) {
+                    return null;
+                }
+                long run = readVarint();
+                current = DIRECTIONS[(int) (run & 3)];
+                remaining = run >>> 2;
+            }
+            remaining--;
+            return current;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = runs[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
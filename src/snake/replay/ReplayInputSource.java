@@ -0,0 +1,34 @@
+package snake.replay;
+
+import snake.headless.InputSource;
+import snake.model.Direction;
+import snake.model.GameModel;
+
+/**
+ * Fuente de entradas que reproduce las direcciones de una Replay.
+ *
+ * PATRÓN: Strategy (Estrategia Concreta)
+ * Permite reproducir una partida grabada con HeadlessEngine a máxima velocidad.
+ * El modelo debe haberse iniciado con la semilla de la repetición.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ReplayInputSource implements InputSource {
+    private final Replay.Cursor cursor;
+
+    /**
+     * Crea una fuente que reproduce la repetición desde el primer tick.
+     *
+     * @param replay la repetición a reproducir
+     */
+    public ReplayInputSource(Replay replay) {
+        this.cursor = replay.cursor();
+    }
+
+    @Override
+    public Direction nextDirection(GameModel model, long tick) {
+        Direction direction = cursor.next();
+        return direction == model.getCurrentDirection() ? null : direction;
+    }
+}
@@ -0,0 +1,90 @@
+package snake.replay;
+
+import snake.headless.GreedyInputSource;
+import snake.headless.HeadlessEngine;
+import snake.model.GameModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Herramienta de línea de comandos para grabar y reproducir repeticiones sin interfaz.
+ *
+ * Uso:
+ * <pre>
+ *   java -cp out snake.replay.ReplayMain record archivo.snkr [semilla] [ticksMaximos]
+ *   java -cp out snake.replay.ReplayMain play archivo.snkr [repeticiones]
+ * </pre>
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ReplayMain {
+
+    /**
+     * Punto de entrada de la herramienta.
+     *
+     * @param args el comando y sus argumentos
+     * @throws IOException si falla la lectura o escritura del archivo
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 2) {
+            System.err.println("Uso: ReplayMain record|play archivo [argumentos]");
+            System.exit(1);
+        }
+        if (args[0].equals("record")) {
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+            long maxTicks = args.length > 3 ? Long.parseLong(args[3]) : 100_000;
+            record(args[1], seed, maxTicks);
+        } else if (args[0].equals("play")) {
+            int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+            play(args[1], repetitions);
+        } else {
+            System.err.println("Comando desconocido: " + args[0]);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Graba una partida del bot GreedyInputSource.
+     */
+    private static void record(String file, long seed, long maxTicks) throws IOException {
+        GameModel model = new GameModel(seed);
+        ReplayRecorder recorder = ReplayRecorder.attach(model);
+        new HeadlessEngine(model, new GreedyInputSource()).runUntilGameOver(maxTicks);
+
+        Replay replay = recorder.toReplay();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Paths.get(file)))) {
+            replay.writeTo(out);
+        }
+        System.out.println("Ticks grabados: " + replay.getTickCount());
+        System.out.println("Puntuación: " + model.getScore());
+        System.out.println("Bytes de entradas: " + replay.getEncodedSize());
+    }
+
+    /**
+     * Reproduce una repetición varias veces y mide la velocidad.
+     */
+    private static void play(String file, int repetitions) throws IOException {
+        Replay replay;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(file)))) {
+            replay = Replay.readFrom(in);
+        }
+        GameModel model = new GameModel();
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            ReplayPlayer.play(replay, model);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("Ticks reproducidos: " + model.getTickCount());
+        System.out.println("Puntuación: " + model.getScore() + " (" + model.getGameState() + ")");
+        System.out.printf("Ticks por segundo: %.0f%n", replay.getTickCount() * repetitions / seconds);
+    }
+}
@@ -0,0 +1,51 @@
+package snake.replay;
+
+import snake.config.GameConfig;
+import snake.headless.HeadlessEngine;
+import snake.model.GameModel;
+
+/**
+ * Reproduce repeticiones re-simulando la partida sin interfaz.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ReplayPlayer {
+
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Re-simula la partida completa de una repetición a máxima velocidad.
+     *
+     * @param replay la repetición a reproducir
+     * @return el modelo en el estado final de la partida
+     */
+    public static GameModel play(Replay replay) {
+        GameModel model = new GameModel();
+        play(replay, model);
+        return model;
+    }
+
+    /**
+     * Re-simula la partida de una repetición sobre un modelo existente.
+     * Los observadores registrados en el modelo reciben cada tick, lo que permite
+     * reproducir la partida en una vista o exportarla.
+     *
+     * @param replay la repetición a reproducir
+     * @param model el modelo a usar; se reinicia con la semilla de la repetición
+     */
+    public static void play(Replay replay, GameModel model) {
+        GameConfig config = GameConfig.getInstance();
+        if (replay.getGridWidth() != config.getGridWidth() || replay.getGridHeight() != config.getGridHeight()) {
+            throw new IllegalArgumentException("La repetición es de una cuadrícula de "
+                    + replay.getGridWidth() + "x" + replay.getGridHeight());
+        }
+        if (replay.getInitialSnakeLength() != config.getInitialSnakeLength()) {
+            throw new IllegalArgumentException("La repetición empieza con una serpiente de longitud "
+                    + replay.getInitialSnakeLength());
+        }
+        model.initializeGame(replay.getGameSeed());
+        new HeadlessEngine(model, new ReplayInputSource(replay)).runUntilGameOver(replay.getTickCount());
+    }
+}
@@ -0,0 +1,122 @@
+package snake.replay;
+
+import snake.config.GameConfig;
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.observer.TickObserver;
+
+import java.util.Arrays;
+
+/**
+ * Graba la partida en curso de un GameModel como una Replay compacta.
+ *
+ * PATRÓN: Observer (Observador Concreto)
+ * ReplayRecorder observa los ticks del modelo: guarda la semilla al comenzar cada
+ * partida y agrupa las direcciones aplicadas en rachas. Grabar un tick solo
+ * incrementa un contador salvo cuando cambia la dirección, y no reserva memoria
+ * salvo al ampliar el buffer.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ReplayRecorder implements TickObserver {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int gridWidth;
+    private final int gridHeight;
+    private final int initialSnakeLength;
+    private byte[] buffer;
+    private int size;
+    private long gameSeed;
+    private long tickCount;
+    private Direction runDirection;
+    private long runLength;
+
+    /**
+     * Crea un grabador para la cuadrícula configurada en GameConfig.
+     */
+    public ReplayRecorder() {
+        GameConfig config = GameConfig.getInstance();
+        this.gridWidth = config.getGridWidth();
+        this.gridHeight = config.getGridHeight();
+        this.initialSnakeLength = config.getInitialSnakeLength();
+        this.buffer = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Crea un grabador y lo registra en el modelo. Si la partida actual todavía no
+     * ha avanzado, la grabación empieza desde ella.
+     *
+     * @param model el modelo a grabar
+     * @return el grabador registrado
+     */
+    public static ReplayRecorder attach(GameModel model) {
+        ReplayRecorder recorder = new ReplayRecorder();
+        if (model.getTickCount() == 0) {
+            recorder.onGameStarted(model.getGameSeed());
+        }
+        model.registerTickObserver(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void onGameStarted(long gameSeed) {
+        this.gameSeed = gameSeed;
+        this.size = 0;
+        this.tickCount = 0;
+        this.runDirection = null;
+        this.runLength = 0;
+    }
+
+    @Override
+    public void onTick(Direction direction) {
+        tickCount++;
+        if (direction == runDirection) {
+            runLength++;
+            return;
+        }
+        flushRun();
+        runDirection = direction;
+        runLength = 1;
+    }
+
+    /**
+     * Obtiene la repetición de la partida grabada hasta ahora.
+     * La grabación continúa con los siguientes ticks.
+     *
+     * @return la repetición
+     */
+    public Replay toReplay() {
+        int committed = size;
+        flushRun();
+        byte[] runs = Arrays.copyOf(buffer, size);
+        size = committed;
+        return new Replay(gridWidth, gridHeight, initialSnakeLength, gameSeed, tickCount, runs);
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Escribe la racha en curso como varint {@code (longitud << 2) | dirección}.
+     */
+    private void flushRun() {
+        if (runLength == 0) {
+            return;
+        }
+        long value = (runLength << 2) | runDirection.ordinal();
+        while ((value & ~0x7FL) != 0) {
+            append((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        append((byte) value);
+    }
+
+    private void append(byte b) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = b;
+    }
+}
@@ -0,0 +1,210 @@
+package snake.session;
+
+import snake.model.Direction;
+import snake.model.GameModel;
+import snake.model.GameState;
+import snake.model.strategy.MovementStrategy;
+
+/**
+ * Una partida de un jugador alojada en un SessionHost.
+ *
+ * Cada sesión tiene su propio GameModel, su velocidad y su cola de entrada. El modelo
+ * solo lo toca el bucle de la sesión; los demás hilos (la red, un bot) envían
+ * direcciones con {@link #offerInput(Direction)} y leen el estado con los getters de
+ * la sesión, que se actualizan tras cada tick.
+ *
+ * La InputQueue del modelo admite un único productor, así que las pulsaciones de
+ * varios hilos se serializan con un bloqueo propio de la sesión. El consumidor, el
+ * bucle, sigue sin bloqueos. Una dirección recibida con la partida terminada empieza
+ * una partida nueva, como ENTER en la interfaz.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class GameSession {
+    private final long id;
+    private final GameModel model;
+    private final SessionHost host;
+    private final long openedNanos;
+    private final Object producerLock = new Object();
+    private volatile boolean active = true;
+    private volatile boolean restartRequested;
+    private volatile long lastActivityNanos;
+    private volatile long ticks;
+    private volatile long inputs;
+    private volatile long droppedInputs;
+    private volatile int score;
+    private volatile GameState state;
+
+    GameSession(long id, GameModel model, SessionHost host) {
+        this.id = id;
+        this.model = model;
+        this.host = host;
+        this.openedNanos = System.nanoTime();
+        this.lastActivityNanos = openedNanos;
+        this.score = model.getScore();
+        this.state = model.getGameState();
+    }
+
+    /**
+     * Envía una dirección a la sesión. Se puede llamar desde cualquier hilo.
+     *
+     * @param direction la dirección pulsada
+     * @return true si se encoló, false si la cola está llena o la sesión está cerrada
+     */
+    public boolean offerInput(Direction direction) {
+        if (!active) {
+            return false;
+        }
+        long now = System.nanoTime();
+        lastActivityNanos = now;
+        if (state == GameState.GAME_OVER) {
+            restartRequested = true;
+            return true;
+        }
+        synchronized (producerLock) {
+            if (model.getInputQueue().offer(direction, now)) {
+                inputs++;
+                return true;
+            }
+            droppedInputs++;
+            return false;
+        }
+    }
+
+    /**
+     * Cambia la velocidad de la sesión. El bucle lo aplica desde el tick pendiente.
+     * Los ticks sin espera del modo turbo no se admiten: acapararían un hilo del
+     * host que comparten miles de sesiones.
+     *
+     * @param strategy la nueva velocidad, con retardo positivo
+     */
+    public void setMovementStrategy(MovementStrategy strategy) {
+        SessionHost.requireTimed(strategy);
+        model.setMovementStrategy(strategy);
+    }
+
+    /**
+     * Ejecuta un tick. Solo desde el bucle de la sesión.
+     *
+     * @param scheduledNanos el instante para el que estaba programado el tick
+     */
+    void tick(long scheduledNanos) {
+        if (!active) {
+            return;
+        }
+        if (restartRequested) {
+            restartRequested = false;
+            model.initializeGame();
+        }
+        model.update();
+        score = model.getScore();
+        state = model.getGameState();
+        ticks++;
+        host.recordTick(System.nanoTime() - scheduledNanos);
+    }
+
+    /**
+     * Marca la sesión como cerrada. El bucle deja de tocar el modelo en su siguiente
+     * vuelta.
+     */
+    void deactivate() {
+        active = false;
+    }
+
+    /**
+     * Indica si la sesión lleva más del tiempo dado sin recibir entradas.
+     *
+     * @param now el instante actual según System.nanoTime()
+     * @param idleNanos el tiempo máximo sin entradas
+     * @return true si está inactiva
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - lastActivityNanos > idleNanos;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el modelo de la sesión. Solo debe modificarse desde el bucle de la
+     * sesión; para enviar entradas, usar {@link #offerInput(Direction)}.
+     *
+     * @return el modelo
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    public MovementStrategy getMovementStrategy() {
+        return model.getMovementStrategy();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Obtiene la puntuación tras el último tick.
+     *
+     * @return la puntuación
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Obtiene el estado de la partida tras el último tick.
+     *
+     * @return el estado
+     */
+    public GameState getGameState() {
+        return state;
+    }
+
+    /**
+     * Obtiene los ticks ejecutados desde que se abrió la sesión.
+     *
+     * @return ticks de la sesión
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Obtiene las direcciones encoladas desde que se abrió la sesión.
+     *
+     * @return direcciones aceptadas
+     */
+    public long getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Obtiene las direcciones descartadas porque la cola estaba llena.
+     *
+     * @return direcciones descartadas
+     */
+    public long getDroppedInputs() {
+        return droppedInputs;
+    }
+
+    /**
+     * Obtiene cuánto tiempo lleva abierta la sesión.
+     *
+     * @return nanosegundos desde que se abrió
+     */
+    public long getAgeNanos() {
+        return System.nanoTime() - openedNanos;
+    }
+
+    /**
+     * Obtiene cuánto tiempo lleva la sesión sin recibir entradas.
+     *
+     * @return nanosegundos desde la última entrada, o desde que se abrió
+     */
+    public long getIdleNanos() {
+        return System.nanoTime() - lastActivityNanos;
+    }
+}
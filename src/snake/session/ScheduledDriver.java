@@ -0,0 +1,122 @@
+package snake.session;
+
+import snake.controller.GameLoop;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta los ticks de todas las sesiones en un planificador compartido, con un hilo
+ * de plataforma por núcleo. Es el driver de las JVM sin hilos virtuales.
+ *
+ * Cada tick, al terminar, programa el siguiente a un retardo de la MovementStrategy
+ * vigente desde el instante programado, no desde el actual, como GameLoop: los
+ * retrasos no se acumulan y un cambio de velocidad afecta al tick pendiente. Si una
+ * sesión se retrasa más de {@link GameLoop#MAX_CATCH_UP_TICKS}
+ * ticks, los que sobran se descartan.
+ *
+ * Los ticks de una sesión nunca se solapan, porque cada uno programa el siguiente, y
+ * el planificador establece una relación happens-before entre ellos aunque se ejecuten
+ * en hilos distintos; así el modelo sigue sin necesitar bloqueos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+class ScheduledDriver implements SessionDriver {
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<GameSession, SessionTask> tasks = new ConcurrentHashMap<>();
+
+    ScheduledDriver(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "snake-session-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Sin esto, las tareas canceladas de las sesiones cerradas seguirían en la cola
+        // hasta su instante programado.
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void start(GameSession session) {
+        SessionTask task = new SessionTask(session);
+        tasks.put(session, task);
+        task.schedule(System.nanoTime());
+    }
+
+    @Override
+    public void stop(GameSession session) {
+        SessionTask task = tasks.remove(session);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        tasks.clear();
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public String getName() {
+        return "planificador compartido (" + scheduler.getCorePoolSize() + " hilos)";
+    }
+
+    /**
+     * El bucle de una sesión como una cadena de tareas programadas.
+     */
+    private final class SessionTask implements Runnable {
+        private final GameSession session;
+        private long scheduledNanos;
+        private volatile ScheduledFuture<?> future;
+
+        SessionTask(GameSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void run() {
+            if (!session.isActive()) {
+                return;
+            }
+            session.tick(scheduledNanos);
+            schedule(scheduledNanos);
+        }
+
+        /**
+         * Programa el tick siguiente a uno programado para el instante dado.
+         */
+        void schedule(long previousNanos) {
+            long delay = TimeUnit.MILLISECONDS.toNanos(session.getMovementStrategy().getMovementDelay());
+            long now = System.nanoTime();
+            long due = previousNanos + delay;
+            long excess = (now - due) / delay - GameLoop.MAX_CATCH_UP_TICKS;
+            if (excess > 0) {
+                due += excess * delay;
+            }
+            scheduledNanos = due;
+            if (!session.isActive()) {
+                return;
+            }
+            try {
+                future = scheduler.schedule(this, due - now, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // El host se está cerrando: la sesión no tiene más ticks.
+            }
+        }
+
+        void cancel() {
+            ScheduledFuture<?> pending = future;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package snake.session;
+
+/**
+ * Cómo se ejecutan los bucles de las sesiones de un SessionHost.
+ *
+ * PATRÓN: Strategy
+ * Con hilos virtuales (JDK 21 o posterior) cada sesión tiene su propio GameLoop en un
+ * hilo virtual; sin ellos, todas comparten un planificador con un hilo por núcleo.
+ * En ambos casos el número de hilos de plataforma no depende del de sesiones.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+interface SessionDriver {
+
+    /**
+     * Empieza a ejecutar los ticks de una sesión.
+     *
+     * @param session la sesión
+     */
+    void start(GameSession session);
+
+    /**
+     * Deja de ejecutar los ticks de una sesión. La sesión ya está desactivada.
+     *
+     * @param session la sesión
+     */
+    void stop(GameSession session);
+
+    /**
+     * Libera los hilos del driver. Las sesiones ya están paradas.
+     */
+    void shutdown();
+
+    /**
+     * Obtiene un nombre para mostrar.
+     *
+     * @return el nombre del driver
+     */
+    String getName();
+}
@@ -0,0 +1,257 @@
+package snake.session;
+
+import snake.metrics.LatencyHistogram;
+import snake.metrics.LatencySnapshot;
+import snake.model.GameModel;
+import snake.model.strategy.MovementStrategy;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aloja miles de partidas independientes de un jugador en la misma JVM.
+ *
+ * Cada sesión tiene su propio GameModel y su propia velocidad, y su bucle se ejecuta
+ * sin un hilo de plataforma por partida: en un hilo virtual cuando la JVM los tiene
+ * (JDK 21 o posterior) y, si no, en un planificador compartido con un hilo por núcleo
+ * (ver {@link SessionDriver}). Las entradas llegan por la cola de cada sesión
+ * ({@link GameSession#offerInput}), desde cualquier hilo.
+ *
+ * Un hilo del host cierra cada cierto tiempo las sesiones que llevan más del tiempo de
+ * inactividad sin recibir entradas, de modo que los jugadores que se van no dejan
+ * bucles abiertos para siempre.
+ *
+ * El host mide las sesiones abiertas, cerradas y expulsadas, los ticks ejecutados y el
+ * desfase de cada tick respecto a su instante programado, que indica si el host da
+ * abasto con todas las sesiones.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class SessionHost {
+    private static final long MIN_EVICTION_PERIOD_MILLIS = 100;
+
+    private final SessionDriver driver;
+    private final long idleNanos;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reaper;
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final LongAdder ticks = new LongAdder();
+    private final LatencyHistogram tickLateness = new LatencyHistogram();
+    private volatile boolean shutdown;
+
+    /**
+     * Crea un host que usa hilos virtuales si la JVM los admite.
+     *
+     * @param idleTimeoutMillis milisegundos sin entradas tras los que se cierra una sesión
+     */
+    public SessionHost(long idleTimeoutMillis) {
+        this(idleTimeoutMillis, isVirtualThreadAvailable());
+    }
+
+    /**
+     * Crea un host con el tipo de hilos indicado.
+     *
+     * @param idleTimeoutMillis milisegundos sin entradas tras los que se cierra una sesión
+     * @param virtualThreads true para un hilo virtual por sesión, false para el
+     *                       planificador compartido
+     * @throws UnsupportedOperationException si se piden hilos virtuales y la JVM no los tiene
+     */
+    public SessionHost(long idleTimeoutMillis, boolean virtualThreads) {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("El tiempo de inactividad debe ser positivo: " + idleTimeoutMillis);
+        }
+        if (virtualThreads) {
+            ThreadFactory factory = VirtualThreadDriver.createThreadFactory();
+            if (factory == null) {
+                throw new UnsupportedOperationException("Esta JVM no tiene hilos virtuales (JDK 21 o posterior)");
+            }
+            this.driver = new VirtualThreadDriver(factory);
+        } else {
+            this.driver = new ScheduledDriver(Runtime.getRuntime().availableProcessors());
+        }
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "snake-session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(MIN_EVICTION_PERIOD_MILLIS, idleTimeoutMillis / 4);
+        executor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        this.reaper = executor;
+    }
+
+    /**
+     * Indica si la JVM tiene hilos virtuales.
+     *
+     * @return true en el JDK 21 o posterior
+     */
+    public static boolean isVirtualThreadAvailable() {
+        return VirtualThreadDriver.createThreadFactory() != null;
+    }
+
+    /**
+     * Abre una sesión con una partida nueva y empieza a ejecutar sus ticks.
+     *
+     * @param seed la semilla de las partidas de la sesión
+     * @param strategy la velocidad inicial, con retardo positivo
+     * @return la sesión
+     */
+    public GameSession open(long seed, MovementStrategy strategy) {
+        requireTimed(strategy);
+        if (shutdown) {
+            throw new IllegalStateException("El host está cerrado");
+        }
+        GameModel model = new GameModel(seed);
+        model.setMovementStrategy(strategy);
+        GameSession session = new GameSession(nextId.incrementAndGet(), model, this);
+        sessions.put(session.getId(), session);
+        opened.incrementAndGet();
+        driver.start(session);
+        return session;
+    }
+
+    /**
+     * Obtiene una sesión abierta.
+     *
+     * @param id el identificador de la sesión
+     * @return la sesión, o null si no existe o ya se cerró
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Obtiene las sesiones abiertas.
+     *
+     * @return una vista de solo lectura que refleja las aperturas y cierres
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Cierra una sesión y detiene su bucle. No hace nada si ya estaba cerrada.
+     *
+     * @param session la sesión
+     */
+    public void close(GameSession session) {
+        if (remove(session)) {
+            closed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Cierra las sesiones que llevan más del tiempo de inactividad sin entradas. El
+     * host lo llama periódicamente por su cuenta.
+     *
+     * @return sesiones cerradas
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.isIdle(now, idleNanos) && remove(session)) {
+                count++;
+            }
+        }
+        evicted.addAndGet(count);
+        return count;
+    }
+
+    private boolean remove(GameSession session) {
+        if (!sessions.remove(session.getId(), session)) {
+            return false;
+        }
+        session.deactivate();
+        driver.stop(session);
+        return true;
+    }
+
+    /**
+     * Cierra todas las sesiones y libera los hilos del host.
+     */
+    public void shutdown() {
+        shutdown = true;
+        reaper.shutdownNow();
+        for (GameSession session : sessions.values()) {
+            close(session);
+        }
+        driver.shutdown();
+    }
+
+    /**
+     * Registra un tick ejecutado. Lo llaman los bucles de las sesiones.
+     *
+     * @param latenessNanos desfase respecto al instante programado
+     */
+    void recordTick(long latenessNanos) {
+        ticks.increment();
+        tickLateness.record(Math.max(0L, latenessNanos));
+    }
+
+    /**
+     * Comprueba que una velocidad tiene retardo: el modo turbo acapararía un hilo
+     * compartido por muchas sesiones.
+     */
+    static void requireTimed(MovementStrategy strategy) {
+        if (strategy.getMovementDelay() <= 0) {
+            throw new IllegalArgumentException("Las sesiones necesitan un retardo positivo: " + strategy.getName());
+        }
+    }
+
+    /**
+     * Obtiene el nombre del tipo de hilos que usan las sesiones.
+     *
+     * @return el nombre del driver
+     */
+    public String getDriverName() {
+        return driver.getName();
+    }
+
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    public long getSessionsOpened() {
+        return opened.get();
+    }
+
+    public long getSessionsClosed() {
+        return closed.get();
+    }
+
+    public long getSessionsEvicted() {
+        return evicted.get();
+    }
+
+    /**
+     * Obtiene los ticks ejecutados por todas las sesiones.
+     *
+     * @return ticks totales
+     */
+    public long getTotalTicks() {
+        return ticks.sum();
+    }
+
+    /**
+     * Obtiene los percentiles del desfase de los ticks respecto a su instante programado.
+     *
+     * @return el resumen del desfase
+     */
+    public LatencySnapshot getTickLateness() {
+        return tickLateness.snapshot();
+    }
+}
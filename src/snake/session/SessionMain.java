@@ -0,0 +1,94 @@
+package snake.session;
+
+import snake.model.Direction;
+import snake.model.strategy.FastSpeed;
+import snake.model.strategy.MovementStrategy;
+import snake.model.strategy.NormalSpeed;
+import snake.model.strategy.SlowSpeed;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Punto de entrada para probar el host de sesiones sin interfaz gráfica.
+ *
+ * Uso: {@code java -cp out snake.session.SessionMain [sesiones] [segundos] [auto|virtual|scheduled] [msInactividad]}
+ *
+ * Abre las sesiones con velocidades lenta, normal y rápida alternadas. Un bot envía
+ * direcciones al azar a la mitad de ellas; la otra mitad no recibe entradas y se
+ * cierra al superar el tiempo de inactividad. Al final informa de los ticks por
+ * segundo, el desfase de los ticks y los hilos de plataforma de la JVM, que no
+ * dependen del número de sesiones.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class SessionMain {
+    private static final int DEFAULT_SESSIONS = 10_000;
+    private static final long DEFAULT_SECONDS = 10;
+    private static final long DEFAULT_IDLE_MILLIS = 5_000;
+    private static final long BOT_PERIOD_MILLIS = 10;
+    private static final int INPUTS_PER_ROUND = 200;
+
+    /**
+     * Punto de entrada del host de sesiones.
+     *
+     * @param args sesiones, segundos, tipo de hilos y milisegundos de inactividad (opcionales)
+     * @throws InterruptedException si se interrumpe el hilo principal
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SECONDS;
+        String mode = args.length > 2 ? args[2] : "auto";
+        long idleMillis = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_IDLE_MILLIS;
+
+        SessionHost host;
+        switch (mode) {
+            case "virtual":
+                host = new SessionHost(idleMillis, true);
+                break;
+            case "scheduled":
+                host = new SessionHost(idleMillis, false);
+                break;
+            default:
+                host = new SessionHost(idleMillis);
+                break;
+        }
+
+        MovementStrategy[] speeds = {new SlowSpeed(), new NormalSpeed(), new FastSpeed()};
+        List<GameSession> played = new ArrayList<>(count / 2 + 1);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            GameSession session = host.open(i, speeds[i % speeds.length]);
+            if (i % 2 == 0) {
+                played.add(session);
+            }
+        }
+        long openedNanos = System.nanoTime() - start;
+        System.out.printf("%d sesiones abiertas en %.0f ms con %s%n",
+                count, openedNanos / 1_000_000.0, host.getDriverName());
+
+        SplittableRandom random = new SplittableRandom(42);
+        Direction[] directions = Direction.values();
+        long end = start + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < INPUTS_PER_ROUND; i++) {
+                GameSession session = played.get(random.nextInt(played.size()));
+                session.offerInput(directions[random.nextInt(directions.length)]);
+            }
+            Thread.sleep(BOT_PERIOD_MILLIS);
+        }
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Ticks: %d (%.0f por segundo)%n", host.getTotalTicks(), host.getTotalTicks() / elapsed);
+        System.out.println("Desfase de los ticks: " + host.getTickLateness());
+        System.out.println("Sesiones abiertas: " + host.getActiveSessions()
+                + ", expulsadas por inactividad: " + host.getSessionsEvicted());
+        System.out.println("Hilos de plataforma: " + ManagementFactory.getThreadMXBean().getThreadCount());
+        host.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package snake.session;
+
+import snake.controller.GameLoop;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Ejecuta cada sesión en su propio GameLoop sobre un hilo virtual.
+ *
+ * Un hilo virtual dormido en LockSupport.parkNanos() no ocupa ningún hilo de
+ * plataforma, así que decenas de miles de bucles con su propia velocidad se reparten
+ * unos pocos hilos portadores. Los bucles se crean sin espera activa: con tantos
+ * bucles, la de cada uno sumaría núcleos enteros.
+ *
+ * Los hilos virtuales llegaron en el JDK 21 y el proyecto compila para el 17, así que
+ * la fábrica se obtiene por reflexión ({@link #createThreadFactory()}).
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+class VirtualThreadDriver implements SessionDriver {
+    private final ThreadFactory threadFactory;
+    private final Map<GameSession, GameLoop> loops = new ConcurrentHashMap<>();
+
+    VirtualThreadDriver(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Crea una fábrica de hilos virtuales si la JVM los admite.
+     *
+     * @return la fábrica, o null antes del JDK 21
+     */
+    static ThreadFactory createThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class)
+                    .invoke(builder, "snake-session-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void start(GameSession session) {
+        SessionTick tick = new SessionTick(session);
+        GameLoop loop = new GameLoop(session.getModel(), tick, threadFactory, 0L);
+        tick.loop = loop;
+        loops.put(session, loop);
+        loop.start();
+    }
+
+    @Override
+    public void stop(GameSession session) {
+        GameLoop loop = loops.remove(session);
+        if (loop != null) {
+            loop.stop();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (GameSession session : loops.keySet()) {
+            stop(session);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "hilos virtuales";
+    }
+
+    /**
+     * El tick de una sesión, con el instante para el que lo programó su bucle.
+     */
+    private static final class SessionTick implements Runnable {
+        private final GameSession session;
+        private GameLoop loop;
+
+        SessionTick(GameSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void run() {
+            session.tick(loop.getScheduledNanos());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package snake.view;
+
+import snake.config.GameConfig;
+import snake.metrics.GameMetrics;
+import snake.model.GameModel;
+import snake.model.GameState;
+import snake.model.factory.Food;
+import snake.model.snapshot.GameSnapshot;
+import snake.model.snapshot.SnapshotPublisher;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Vista del tablero con renderizado activo.
+ *
+ * En lugar de pedir repaint() a Swing, un hilo propio dibuja cuadros completos en un
+ * Canvas con BufferStrategy a la tasa objetivo de {@link GameConfig#getTargetFps()}
+ * (o tan rápido como permita la sincronización vertical si es 0), sin depender del
+ * ritmo de los ticks ni de la cola de eventos del EDT.
+ *
+ * El hilo de renderizado no toca el modelo: en cada cuadro retiene la última
+ * GameSnapshot publicada y conserva la del tick anterior. Interpola cada segmento
+ * entre ambas posiciones según el tiempo transcurrido desde el tick, así que la
+ * serpiente se desliza de celda en celda aunque los ticks estén muy espaciados
+ * (por ejemplo, con SlowSpeed).
+ *
+ * Si el tablero es mayor que la zona visible, una {@link Camera} sigue la posición
+ * interpolada de la cabeza con desplazamiento continuo. Solo se visitan las celdas
+ * visibles (más una de margen, por los segmentos que entran desde fuera) y se
+ * consultan en la foto, así que el coste de un cuadro no depende del tamaño del
+ * tablero ni de la serpiente.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class ActiveGameCanvas extends Canvas {
+    private static final long serialVersionUID = 1L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final transient GameConfig config;
+    private final transient SnapshotPublisher snapshots;
+    private final transient GameMetrics metrics;
+    private final long frameNanos;
+    private final transient Camera camera;
+
+    private volatile boolean running;
+    private transient Thread renderThread;
+
+    private transient BufferedImage background;
+    private transient SpriteAtlas atlas;
+
+    // Retenidas por el hilo de renderizado: la foto actual y la del tick anterior.
+    private transient GameSnapshot current;
+    private transient GameSnapshot previous;
+
+    /**
+     * Crea un nuevo ActiveGameCanvas.
+     *
+     * @param model el modelo del juego a dibujar
+     */
+    public ActiveGameCanvas(GameModel model) {
+        this.config = GameConfig.getInstance();
+        this.snapshots = model.getSnapshots();
+        this.metrics = GameMetrics.getInstance();
+        this.frameNanos = config.getTargetFps() > 0 ? NANOS_PER_SECOND / config.getTargetFps() : 0;
+        this.camera = new Camera(config.getViewportWidth(), config.getViewportHeight(),
+                config.getGridWidth(), config.getGridHeight());
+
+        setPreferredSize(new Dimension(config.getPanelWidth(), config.getPanelHeight()));
+        setBackground(BoardPainter.BACKGROUND_COLOR);
+        setIgnoreRepaint(true);
+        setFocusable(true);
+    }
+
+    /**
+     * Crea la BufferStrategy e inicia el hilo de renderizado al mostrarse el Canvas.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+        background = null;
+        atlas = null;
+        running = true;
+        renderThread = new Thread(this::renderLoop, "snake-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    /**
+     * Detiene el hilo de renderizado antes de liberar los recursos nativos.
+     */
+    @Override
+    public void removeNotify() {
+        running = false;
+        if (renderThread != null) {
+            renderThread.interrupt();
+            try {
+                renderThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            renderThread = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Bucle del hilo de renderizado: dibuja un cuadro y espera hasta el siguiente
+     * instante objetivo. Si un cuadro se retrasa, el siguiente se programa desde
+     * el momento actual en lugar de acumular cuadros atrasados.
+     */
+    private void renderLoop() {
+        long nextFrame = System.nanoTime();
+        while (running) {
+            takeLatestSnapshot();
+            renderFrame();
+            if (frameNanos > 0) {
+                nextFrame += frameNanos;
+                long wait = nextFrame - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    nextFrame = System.nanoTime();
+                }
+            }
+        }
+        releaseSnapshots();
+    }
+
+    /**
+     * Retiene la última foto publicada. Si es el tick siguiente al de la foto actual,
+     * la actual pasa a ser la anterior para interpolar; si no, se descarta.
+     */
+    private void takeLatestSnapshot() {
+        GameSnapshot latest = snapshots.acquire();
+        if (latest == current) {
+            latest.release();
+            return;
+        }
+        if (previous != null) {
+            previous.release();
+            previous = null;
+        }
+        if (current != null) {
+            if (latest.follows(current)) {
+                previous = current;
+            } else {
+                current.release();
+            }
+        }
+        current = latest;
+    }
+
+    private void releaseSnapshots() {
+        if (previous != null) {
+            previous.release();
+            previous = null;
+        }
+        if (current != null) {
+            current.release();
+            current = null;
+        }
+    }
+
+    /**
+     * Dibuja y muestra un cuadro completo, repitiendo si el contenido del búfer se
+     * pierde (por ejemplo, al cambiar de modo de pantalla).
+     */
+    private void renderFrame() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    render(g, current, previous, start);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        metrics.recordPaint(System.nanoTime() - start);
+    }
+
+    /**
+     * Dibuja la zona visible del tablero interpolando entre el cuadro anterior y el actual.
+     */
+    private void render(Graphics2D g, GameSnapshot current, GameSnapshot previous, long now) {
+        int width = getWidth();
+        int height = getHeight();
+        int cellSize = config.getCellSize();
+        if (background == null || background.getWidth() != width + cellSize
+                || background.getHeight() != height + cellSize) {
+            // Una celda más en cada eje, para desplazar la cuadrícula al mover la cámara.
+            background = BoardPainter.renderBackground(getGraphicsConfiguration(),
+                    width + cellSize, height + cellSize, cellSize,
+                    camera.getViewWidth() + 1, camera.getViewHeight() + 1);
+        }
+        if (atlas == null) {
+            atlas = new SpriteAtlas(cellSize, getGraphicsConfiguration());
+        }
+
+        double alpha = 1.0;
+        if (previous != null && current.getState() == GameState.RUNNING) {
+            alpha = Math.min(1.0, (double) (now - current.getPublishedNanos()) / current.getTickDelayNanos());
+        }
+
+        double headX = current.getHeadX() - offset(current, previous, 0, alpha, true);
+        double headY = current.getHeadY() - offset(current, previous, 0, alpha, false);
+        camera.track(current, headX, headY);
+        int originX = (int) Math.round(camera.getX() * cellSize);
+        int originY = (int) Math.round(camera.getY() * cellSize);
+
+        g.drawImage(background, -Math.floorMod(originX, cellSize), -Math.floorMod(originY, cellSize), null);
+
+        Food food = current.getFood();
+        if (food != null) {
+            atlas.drawFoodAt(g, food, food.getPosition().getX() * cellSize - originX,
+                    food.getPosition().getY() * cellSize - originY);
+        }
+
+        int x0 = Math.max(0, camera.getFirstColumn() - 1);
+        int y0 = Math.max(0, camera.getFirstRow() - 1);
+        int x1 = Math.min(config.getGridWidth() - 1, camera.getLastColumn() + 1);
+        int y1 = Math.min(config.getGridHeight() - 1, camera.getLastRow() + 1);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int index = current.indexAt(cx, cy);
+                if (index > 0) {
+                    int x = (int) Math.round((cx - offset(current, previous, index, alpha, true)) * cellSize);
+                    int y = (int) Math.round((cy - offset(current, previous, index, alpha, false)) * cellSize);
+                    atlas.drawAt(g, SpriteAtlas.Sprite.BODY, x - originX, y - originY);
+                }
+            }
+        }
+        atlas.drawAt(g, SpriteAtlas.head(current.getDirection()),
+                (int) Math.round(headX * cellSize) - originX, (int) Math.round(headY * cellSize) - originY);
+
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        BoardPainter.drawOverlay(g, current.getState(), current.getScore(), width, height);
+    }
+
+    /**
+     * Calcula cuánto le falta al componente para llegar a su celda actual, en celdas.
+     * Solo interpola pasos de una celda; cualquier otro cambio se dibuja sin transición.
+     */
+    private static double offset(GameSnapshot current, GameSnapshot previous, int index,
+                                 double alpha, boolean horizontal) {
+        if (alpha >= 1.0 || index >= previous.getLength()) {
+            return 0.0;
+        }
+        int dx = current.getX(index) - previous.getX(index);
+        int dy = current.getY(index) - previous.getY(index);
+        if (Math.abs(dx) + Math.abs(dy) != 1) {
+            return 0.0;
+        }
+        return (1.0 - alpha) * (horizontal ? dx : dy);
+    }
+}
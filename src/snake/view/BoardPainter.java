@@ -0,0 +1,143 @@
+package snake.view;
+
+import snake.model.GameState;
+import snake.model.factory.Food;
+import snake.model.snapshot.GameSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Dibujo compartido por las vistas del tablero: el fondo con la cuadrícula, las
+ * celdas visibles y los mensajes superpuestos de pausa y fin del juego.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+final class BoardPainter {
+    static final Color BACKGROUND_COLOR = new Color(30, 30, 30);
+    static final Color GRID_COLOR = new Color(50, 50, 50);
+    static final Color TEXT_COLOR = Color.WHITE;
+    private static final Color OVERLAY_COLOR = new Color(0, 0, 0, 180);
+
+    private BoardPainter() {
+    }
+
+    /**
+     * Renderiza el color de fondo y las líneas de la cuadrícula en una imagen nueva.
+     *
+     * @param gc configuración de la pantalla destino, o null para una imagen en memoria
+     * @param width ancho de la imagen en píxeles
+     * @param height altura de la imagen en píxeles
+     * @param cellSize tamaño de celda en píxeles
+     * @param columns columnas de la cuadrícula
+     * @param rows filas de la cuadrícula
+     * @return la imagen de fondo
+     */
+    static BufferedImage renderBackground(GraphicsConfiguration gc, int width, int height,
+                                          int cellSize, int columns, int rows) {
+        BufferedImage image = gc != null
+                ? gc.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(BACKGROUND_COLOR);
+            g.fillRect(0, 0, width, height);
+
+            g.setColor(GRID_COLOR);
+            for (int x = 0; x <= columns; x++) {
+                g.drawLine(x * cellSize, 0, x * cellSize, rows * cellSize);
+            }
+            for (int y = 0; y <= rows; y++) {
+                g.drawLine(0, y * cellSize, columns * cellSize, y * cellSize);
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Dibuja las celdas visibles que caen dentro del recorte, consultando en la foto
+     * qué componente ocupa cada una. El fondo debe estar ya dibujado.
+     *
+     * @param g el contexto gráfico, con el origen en la esquina de la vista
+     * @param atlas los sprites a copiar
+     * @param snapshot la foto a dibujar
+     * @param camera la cámara que define las celdas visibles
+     * @param clip el recorte en píxeles, o null para toda la vista
+     */
+    static void drawCells(Graphics2D g, SpriteAtlas atlas, GameSnapshot snapshot, Camera camera, Rectangle clip) {
+        int cellSize = atlas.getCellSize();
+        int left = camera.getFirstColumn();
+        int top = camera.getFirstRow();
+        int x0 = left;
+        int y0 = top;
+        int x1 = camera.getLastColumn();
+        int y1 = camera.getLastRow();
+        if (clip != null) {
+            x0 = Math.max(x0, left + clip.x / cellSize);
+            y0 = Math.max(y0, top + clip.y / cellSize);
+            x1 = Math.min(x1, left + (clip.x + clip.width - 1) / cellSize);
+            y1 = Math.min(y1, top + (clip.y + clip.height - 1) / cellSize);
+        }
+
+        SpriteAtlas.Sprite headSprite = SpriteAtlas.head(snapshot.getDirection());
+        Food food = snapshot.getFood();
+
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                int index = snapshot.indexAt(x, y);
+                if (index == 0) {
+                    atlas.draw(g, headSprite, x - left, y - top);
+                } else if (index > 0) {
+                    atlas.draw(g, SpriteAtlas.Sprite.BODY, x - left, y - top);
+                } else if (food != null && food.getPosition().getX() == x && food.getPosition().getY() == y) {
+                    atlas.drawFoodAt(g, food, (x - left) * cellSize, (y - top) * cellSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dibuja el mensaje de pausa o de fin del juego sobre el tablero.
+     * No dibuja nada mientras el juego está en ejecución.
+     *
+     * @param g el contexto gráfico
+     * @param state el estado del juego
+     * @param score la puntuación a mostrar al terminar
+     * @param width ancho del área en píxeles
+     * @param height altura del área en píxeles
+     */
+    static void drawOverlay(Graphics2D g, GameState state, int score, int width, int height) {
+        if (state == GameState.RUNNING) {
+            return;
+        }
+
+        g.setColor(OVERLAY_COLOR);
+        g.fillRect(0, 0, width, height);
+
+        g.setColor(TEXT_COLOR);
+
+        if (state == GameState.PAUSED) {
+            g.setFont(new Font("Arial", Font.BOLD, 36));
+            drawCenteredString(g, "PAUSED", width, height / 2 - 20);
+            g.setFont(new Font("Arial", Font.PLAIN, 16));
+            drawCenteredString(g, "Press SPACE to resume", width, height / 2 + 20);
+        } else if (state == GameState.GAME_OVER) {
+            g.setFont(new Font("Arial", Font.BOLD, 36));
+            drawCenteredString(g, "GAME OVER", width, height / 2 - 40);
+            g.setFont(new Font("Arial", Font.BOLD, 24));
+            drawCenteredString(g, "Score: " + score, width, height / 2);
+            g.setFont(new Font("Arial", Font.PLAIN, 16));
+            drawCenteredString(g, "Press ENTER to restart", width, height / 2 + 40);
+        }
+    }
+
+    private static void drawCenteredString(Graphics2D g, String text, int width, int y) {
+        FontMetrics fm = g.getFontMetrics();
+        int x = (width - fm.stringWidth(text)) / 2;
+        g.drawString(text, x, y);
+    }
+}
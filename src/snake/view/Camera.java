@@ -0,0 +1,184 @@
+package snake.view;
+
+import snake.model.snapshot.GameSnapshot;
+
+/**
+ * Cámara que decide qué parte del tablero se ve cuando el tablero es mayor que la vista.
+ *
+ * Trabaja en celdas, con coordenadas fraccionarias para poder seguir una posición
+ * interpolada. La cámara sigue un objetivo (la cabeza de la serpiente) con una zona
+ * muerta: mientras el objetivo esté en la mitad central de la vista, la cámara no se
+ * mueve, y al salir de ella se desplaza lo justo para recuperarlo. La vista nunca
+ * sale del tablero.
+ *
+ * Las vistas solo dibujan el rango de celdas visible que devuelve la cámara, así que
+ * el coste de un cuadro depende del tamaño de la vista y no del tablero.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class Camera {
+    private final int viewWidth;
+    private final int viewHeight;
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int marginX;
+    private final int marginY;
+    private double x;
+    private double y;
+    private boolean tracking;
+    private long trackedSeed;
+
+    /**
+     * Crea una cámara en la esquina superior izquierda del tablero.
+     *
+     * @param viewWidth ancho visible en celdas
+     * @param viewHeight altura visible en celdas
+     * @param worldWidth ancho del tablero en celdas
+     * @param worldHeight altura del tablero en celdas
+     */
+    public Camera(int viewWidth, int viewHeight, int worldWidth, int worldHeight) {
+        this.viewWidth = Math.min(viewWidth, worldWidth);
+        this.viewHeight = Math.min(viewHeight, worldHeight);
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.marginX = this.viewWidth / 4;
+        this.marginY = this.viewHeight / 4;
+    }
+
+    /**
+     * Apunta la cámara a la cabeza de una foto: la centra al empezar una partida y
+     * la sigue durante el resto.
+     *
+     * @param snapshot la foto a mostrar
+     * @return true si cambiaron las celdas visibles
+     */
+    public boolean track(GameSnapshot snapshot) {
+        return track(snapshot, snapshot.getHeadX(), snapshot.getHeadY());
+    }
+
+    /**
+     * Como {@link #track(GameSnapshot)}, pero siguiendo una posición de la cabeza
+     * dada, por ejemplo interpolada entre dos ticks.
+     *
+     * @param snapshot la foto a mostrar
+     * @param headX columna de la cabeza (puede ser fraccionaria)
+     * @param headY fila de la cabeza (puede ser fraccionaria)
+     * @return true si cambiaron las celdas visibles
+     */
+    public boolean track(GameSnapshot snapshot, double headX, double headY) {
+        int left = getFirstColumn();
+        int top = getFirstRow();
+        if (!tracking || snapshot.getTick() == 0 || snapshot.getGameSeed() != trackedSeed) {
+            centerOn(snapshot.getHeadX(), snapshot.getHeadY());
+            tracking = true;
+            trackedSeed = snapshot.getGameSeed();
+        } else {
+            follow(headX, headY);
+        }
+        return getFirstColumn() != left || getFirstRow() != top;
+    }
+
+    /**
+     * Centra la vista en una celda, por ejemplo al empezar una partida.
+     *
+     * @param targetX columna del objetivo
+     * @param targetY fila del objetivo
+     */
+    public void centerOn(double targetX, double targetY) {
+        x = clamp(Math.floor(targetX - (viewWidth - 1) / 2.0), worldWidth - viewWidth);
+        y = clamp(Math.floor(targetY - (viewHeight - 1) / 2.0), worldHeight - viewHeight);
+    }
+
+    /**
+     * Desplaza la vista lo mínimo para que el objetivo quede dentro de la zona muerta.
+     *
+     * @param targetX columna del objetivo (puede ser fraccionaria)
+     * @param targetY fila del objetivo (puede ser fraccionaria)
+     * @return true si la vista se movió
+     */
+    public boolean follow(double targetX, double targetY) {
+        double newX = clamp(followAxis(x, targetX, viewWidth, marginX), worldWidth - viewWidth);
+        double newY = clamp(followAxis(y, targetY, viewHeight, marginY), worldHeight - viewHeight);
+        boolean moved = newX != x || newY != y;
+        x = newX;
+        y = newY;
+        return moved;
+    }
+
+    private static double followAxis(double origin, double target, int view, int margin) {
+        if (target < origin + margin) {
+            return target - margin;
+        }
+        if (target + 1 > origin + view - margin) {
+            return target + 1 - view + margin;
+        }
+        return origin;
+    }
+
+    private static double clamp(double value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    /**
+     * Obtiene la columna del borde izquierdo de la vista.
+     *
+     * @return la columna, posiblemente fraccionaria
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Obtiene la fila del borde superior de la vista.
+     *
+     * @return la fila, posiblemente fraccionaria
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Obtiene la primera columna visible, total o parcialmente.
+     *
+     * @return la columna
+     */
+    public int getFirstColumn() {
+        return (int) Math.floor(x);
+    }
+
+    /**
+     * Obtiene la última columna visible, total o parcialmente.
+     *
+     * @return la columna
+     */
+    public int getLastColumn() {
+        return Math.min(worldWidth, (int) Math.ceil(x + viewWidth)) - 1;
+    }
+
+    /**
+     * Obtiene la primera fila visible, total o parcialmente.
+     *
+     * @return la fila
+     */
+    public int getFirstRow() {
+        return (int) Math.floor(y);
+    }
+
+    /**
+     * Obtiene la última fila visible, total o parcialmente.
+     *
+     * @return la fila
+     */
+    public int getLastRow() {
+        return Math.min(worldHeight, (int) Math.ceil(y + viewHeight)) - 1;
+    }
+
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    public int getViewHeight() {
+        return viewHeight;
+    }
+}
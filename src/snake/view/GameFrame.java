@@ -1,12 +1,13 @@
 package snake.view;
 
+import snake.config.GameConfig;
 import snake.model.GameModel;
 
 import javax.swing.*;
 import java.awt.*;
 
 public class GameFrame extends JFrame {
-    private final GamePanel gamePanel;
+    private final Component boardComponent;
     private final ScorePanel scorePanel;
 
  
@@ -17,10 +18,12 @@ public class GameFrame extends JFrame {
         setLayout(new BorderLayout());
         
         this.scorePanel = new ScorePanel(model);
-        this.gamePanel = new GamePanel(model);
+        this.boardComponent = GameConfig.getInstance().getRenderMode() == GameConfig.RenderMode.ACTIVE
+                ? new ActiveGameCanvas(model)
+                : new GamePanel(model);
         
         add(scorePanel, BorderLayout.NORTH);
-        add(gamePanel, BorderLayout.CENTER);
+        add(boardComponent, BorderLayout.CENTER);
         
         JPanel instructionsPanel = createInstructionsPanel();
         add(instructionsPanel, BorderLayout.SOUTH);
@@ -40,7 +43,7 @@ public class GameFrame extends JFrame {
         String[] instructions = {
             "Arrow Keys: Move",
             "SPACE: Pause",
-            "1/2/3: Speed",
+            "1/2/3/4: Speed / Turbo",
             "ENTER: Restart"
         };
         
@@ -54,8 +57,13 @@ public class GameFrame extends JFrame {
         return panel;
     }
 
-    
-    public GamePanel getGamePanel() {
-        return gamePanel;
+    /**
+     * Gets the component that draws the board: a GamePanel, or an ActiveGameCanvas
+     * in active rendering mode. It receives the keyboard focus.
+     *
+     * @return the board component
+     */
+    public Component getBoardComponent() {
+        return boardComponent;
     }
 }
@@ -1,217 +1,219 @@
 package snake.view;
 
 import snake.config.GameConfig;
+import snake.metrics.GameMetrics;
 import snake.model.GameModel;
 import snake.model.GameState;
-import snake.model.Position;
-import snake.model.composite.SnakeSegment;
 import snake.model.factory.Food;
 import snake.model.observer.GameObserver;
+import snake.model.snapshot.GameSnapshot;
+import snake.model.snapshot.SnapshotPublisher;
 
 import javax.swing.*;
 import java.awt.*;
-
-
+import java.awt.image.BufferedImage;
+
+
+/**
+ * Panel that renders the visible part of the board.
+ *
+ * The panel never reads the mutable model while painting: it draws the latest
+ * {@link GameSnapshot} published by the model, retained as the "shown" snapshot.
+ *
+ * Viewport: the panel is sized to the viewport from {@link GameConfig}, not to the
+ * whole board. A {@link Camera} follows the head, and painting only visits the cells
+ * inside both the viewport and the clip, asking the snapshot which segment occupies
+ * each one. Frame cost therefore depends on the viewport size, never on the board or
+ * snake size. With the default config the viewport is the whole board.
+ *
+ * Incremental mode (enabled by default, see {@link GameConfig#isIncrementalRendering()}):
+ * a normal tick only changes the new head, the previous head, the vacated tail and the
+ * old and new food cells. onGameUpdated() diffs the new snapshot against the shown one
+ * and repaints exactly those cells. State changes (pause, game over, restart), missed
+ * ticks and camera moves fall back to a full repaint of the viewport.
+ *
+ * The background and grid never change, so they are rendered once into a compatible
+ * image (which Java2D can keep in video memory) and blitted under the clip on every
+ * frame. The camera moves in whole cells, so the same image serves every position.
+ * Snake and food cells are blitted from a {@link SpriteAtlas} built for the cell size.
+ *
+ * Events: the panel subscribes with the EDT as its executor, so every callback runs
+ * on the EDT and the model thread only drops an event in the panel's mailbox. With
+ * the default coalescing policy a slow EDT sees one merged event however many ticks
+ * went by. When ticks arrive faster than frames are worth drawing (turbo speed), a
+ * {@link RenderThrottle} further skips updates beyond one per stride of ticks and
+ * per frame interval.
+ */
 public class GamePanel extends JPanel implements GameObserver {
     private final GameConfig config;
-    private final GameModel model;
+    private final SnapshotPublisher snapshots;
+    private final GameMetrics metrics;
+    private final boolean incremental;
+    private final Camera camera;
+    private final RenderThrottle throttle;
+
+    private boolean tracking;
+    private boolean paintingCells;
+    private GameSnapshot shown;
+    private BufferedImage background;
+    private SpriteAtlas atlas;
 
-    private static final Color BACKGROUND_COLOR = new Color(30, 30, 30);
-    private static final Color GRID_COLOR = new Color(50, 50, 50);
-    private static final Color SNAKE_HEAD_COLOR = new Color(76, 175, 80);
-    private static final Color SNAKE_BODY_COLOR = new Color(129, 199, 132);
-    private static final Color NORMAL_FOOD_COLOR = new Color(244, 67, 54);
-    private static final Color BONUS_FOOD_COLOR = new Color(255, 193, 7);
-    private static final Color TEXT_COLOR = Color.WHITE;
 
   
     public GamePanel(GameModel model) {
         this.config = GameConfig.getInstance();
-        this.model = model;
+        this.snapshots = model.getSnapshots();
+        this.metrics = GameMetrics.getInstance();
+        this.incremental = config.isIncrementalRendering();
+        this.camera = new Camera(config.getViewportWidth(), config.getViewportHeight(),
+                config.getGridWidth(), config.getGridHeight());
+        this.throttle = new RenderThrottle(config.getRenderTickStride(), config.getTargetFps());
         
         setPreferredSize(new Dimension(config.getPanelWidth(), config.getPanelHeight()));
-        setBackground(BACKGROUND_COLOR);
+        setBackground(BoardPainter.BACKGROUND_COLOR);
         setFocusable(true);
         
-        model.registerObserver(this);
+        model.registerViewObserver(this, SwingUtilities::invokeLater);
     }
 
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        long start = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
+        drawBackground(g2d);
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        drawGrid(g2d);
-        drawFood(g2d);
-        drawSnake(g2d);
+        if (!tracking || shown.getState() != GameState.RUNNING) {
+            GameSnapshot previous = shown;
+            shown = snapshots.acquire();
+            camera.track(shown);
+            if (previous != null) {
+                previous.release();
+            }
+            tracking = incremental && shown.getState() == GameState.RUNNING;
+        }
+        BoardPainter.drawCells(g2d, atlas(), shown, camera, g.getClipBounds());
         drawOverlay(g2d);
+        if (!paintingCells) {
+            metrics.recordPaint(System.nanoTime() - start);
+        }
     }
 
-    /**
-     * Draws the background grid.
-     */
-    private void drawGrid(Graphics2D g) {
-        g.setColor(GRID_COLOR);
-        int cellSize = config.getCellSize();
-        
-        for (int x = 0; x <= config.getGridWidth(); x++) {
-            g.drawLine(x * cellSize, 0, x * cellSize, config.getPanelHeight());
-        }
-        for (int y = 0; y <= config.getGridHeight(); y++) {
-            g.drawLine(0, y * cellSize, config.getPanelWidth(), y * cellSize);
-        }
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // The compatible image format depends on the screen the panel is shown on.
+        background = null;
+        atlas = null;
     }
 
     /**
-     * Draws the food item.
+     * Blits the cached background and grid, rendering it first if the panel size
+     * changed. Only the part under the clip is copied.
      */
-    private void drawFood(Graphics2D g) {
-        Food food = model.getCurrentFood();
-        if (food == null) return;
-        
-        int cellSize = config.getCellSize();
-        Position pos = food.getPosition();
-        
-        Color foodColor = food.getType() == Food.FoodType.BONUS 
-                ? BONUS_FOOD_COLOR : NORMAL_FOOD_COLOR;
-        
-        g.setColor(foodColor);
-        int padding = 2;
-        g.fillOval(
-            pos.getX() * cellSize + padding,
-            pos.getY() * cellSize + padding,
-            cellSize - padding * 2,
-            cellSize - padding * 2
-        );
-        
-        if (food.getType() == Food.FoodType.BONUS) {
-            g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.BOLD, 12));
-            String points = "+" + food.getPoints();
-            FontMetrics fm = g.getFontMetrics();
-            int textX = pos.getX() * cellSize + (cellSize - fm.stringWidth(points)) / 2;
-            int textY = pos.getY() * cellSize + (cellSize + fm.getAscent()) / 2 - 2;
-            g.drawString(points, textX, textY);
+    private void drawBackground(Graphics2D g) {
+        int width = getWidth() > 0 ? getWidth() : config.getPanelWidth();
+        int height = getHeight() > 0 ? getHeight() : config.getPanelHeight();
+        if (background == null || background.getWidth() != width || background.getHeight() != height) {
+            background = BoardPainter.renderBackground(getGraphicsConfiguration(), width, height,
+                    config.getCellSize(), camera.getViewWidth(), camera.getViewHeight());
         }
+        g.drawImage(background, 0, 0, null);
     }
 
     /**
-     * Draws the snake (head and body segments).
+     * Gets the sprite atlas, building it for the current screen if needed.
      */
-    private void drawSnake(Graphics2D g) {
-        int cellSize = config.getCellSize();
-        int padding = 1;
-
-        Position headPos = model.getSnake().getHead().getPosition();
-        g.setColor(SNAKE_HEAD_COLOR);
-        g.fillRoundRect(
-            headPos.getX() * cellSize + padding,
-            headPos.getY() * cellSize + padding,
-            cellSize - padding * 2,
-            cellSize - padding * 2,
-            8, 8
-        );
-
-        drawEyes(g, headPos);
-
-        g.setColor(SNAKE_BODY_COLOR);
-        for (SnakeSegment segment : model.getSnake().getSegments()) {
-            Position pos = segment.getPosition();
-            g.fillRoundRect(
-                pos.getX() * cellSize + padding,
-                pos.getY() * cellSize + padding,
-                cellSize - padding * 2,
-                cellSize - padding * 2,
-                6, 6
-            );
+    private SpriteAtlas atlas() {
+        if (atlas == null) {
+            atlas = new SpriteAtlas(config.getCellSize(), getGraphicsConfiguration());
         }
+        return atlas;
     }
 
     /**
-     * Draws the snake's eyes based on direction.
+     * Draws overlay messages for PAUSED and GAME_OVER states.
      */
-    private void drawEyes(Graphics2D g, Position headPos) {
-        int cellSize = config.getCellSize();
-        int eyeSize = 4;
-        int eyeOffset = 5;
-        
-        g.setColor(Color.WHITE);
-        
-        int baseX = headPos.getX() * cellSize;
-        int baseY = headPos.getY() * cellSize;
-        int centerX = baseX + cellSize / 2;
-        int centerY = baseY + cellSize / 2;
-
-        switch (model.getCurrentDirection()) {
-            case UP:
-                g.fillOval(centerX - eyeOffset - eyeSize/2, baseY + 5, eyeSize, eyeSize);
-                g.fillOval(centerX + eyeOffset - eyeSize/2, baseY + 5, eyeSize, eyeSize);
-                break;
-            case DOWN:
-                g.fillOval(centerX - eyeOffset - eyeSize/2, baseY + cellSize - 9, eyeSize, eyeSize);
-                g.fillOval(centerX + eyeOffset - eyeSize/2, baseY + cellSize - 9, eyeSize, eyeSize);
-                break;
-            case LEFT:
-                g.fillOval(baseX + 5, centerY - eyeOffset - eyeSize/2, eyeSize, eyeSize);
-                g.fillOval(baseX + 5, centerY + eyeOffset - eyeSize/2, eyeSize, eyeSize);
-                break;
-            case RIGHT:
-                g.fillOval(baseX + cellSize - 9, centerY - eyeOffset - eyeSize/2, eyeSize, eyeSize);
-                g.fillOval(baseX + cellSize - 9, centerY + eyeOffset - eyeSize/2, eyeSize, eyeSize);
-                break;
-        }
+    private void drawOverlay(Graphics2D g) {
+        BoardPainter.drawOverlay(g, shown.getState(), shown.getScore(),
+                config.getPanelWidth(), config.getPanelHeight());
     }
 
     /**
-     * Draws overlay messages for PAUSED and GAME_OVER states.
+     * Replaces the shown snapshot with the latest one, repainting only the cells that
+     * changed when it directly follows the shown one. Runs on the EDT.
      */
-    private void drawOverlay(Graphics2D g) {
-        if (model.getGameState() == GameState.RUNNING) {
+    @Override
+    public void onGameUpdated() {
+        GameSnapshot latest = snapshots.acquire();
+        if (latest == shown || !throttle.allowFrame(latest.getState())) {
+            latest.release();
             return;
         }
+        if (!incremental) {
+            latest.release();
+            repaint();
+            return;
+        }
+        if (!tracking || latest.getState() != GameState.RUNNING || !latest.follows(shown)) {
+            latest.release();
+            tracking = false;
+            repaint();
+            return;
+        }
+        GameSnapshot previous = shown;
+        shown = latest;
+
+        if (camera.track(latest)) {
+            repaint();
+        } else {
+            // The cell paints of one tick make up one frame: they are timed together
+            // instead of each recording its own paint.
+            long start = System.nanoTime();
+            paintingCells = true;
+            try {
+                repaintCell(previous.getTailX(), previous.getTailY());
+                repaintCell(previous.getHeadX(), previous.getHeadY());
+                repaintCell(latest.getHeadX(), latest.getHeadY());
+                repaintFood(previous.getFood());
+                repaintFood(latest.getFood());
+            } finally {
+                paintingCells = false;
+            }
+            metrics.recordPaint(System.nanoTime() - start);
+        }
+        previous.release();
+    }
 
-        g.setColor(new Color(0, 0, 0, 180));
-        g.fillRect(0, 0, config.getPanelWidth(), config.getPanelHeight());
-
-        g.setColor(TEXT_COLOR);
-        
-        if (model.getGameState() == GameState.PAUSED) {
-            g.setFont(new Font("Arial", Font.BOLD, 36));
-            drawCenteredString(g, "PAUSED", config.getPanelHeight() / 2 - 20);
-            g.setFont(new Font("Arial", Font.PLAIN, 16));
-            drawCenteredString(g, "Press SPACE to resume", config.getPanelHeight() / 2 + 20);
-        } else if (model.getGameState() == GameState.GAME_OVER) {
-            g.setFont(new Font("Arial", Font.BOLD, 36));
-            drawCenteredString(g, "GAME OVER", config.getPanelHeight() / 2 - 40);
-            g.setFont(new Font("Arial", Font.BOLD, 24));
-            drawCenteredString(g, "Score: " + model.getScore(), config.getPanelHeight() / 2);
-            g.setFont(new Font("Arial", Font.PLAIN, 16));
-            drawCenteredString(g, "Press ENTER to restart", config.getPanelHeight() / 2 + 40);
+    private void repaintFood(Food food) {
+        if (food != null) {
+            repaintCell(food.getPosition().getX(), food.getPosition().getY());
         }
     }
 
     /**
-     * Helper to draw centered text.
+     * Paints one board cell right away if it is visible, so that Swing does not merge
+     * the changed cells into one bounding rectangle spanning the viewport.
      */
-    private void drawCenteredString(Graphics2D g, String text, int y) {
-        FontMetrics fm = g.getFontMetrics();
-        int x = (config.getPanelWidth() - fm.stringWidth(text)) / 2;
-        g.drawString(text, x, y);
-    }
-
-    @Override
-    public void onGameUpdated() {
-        repaint();
+    private void repaintCell(int x, int y) {
+        if (x >= camera.getFirstColumn() && x <= camera.getLastColumn()
+                && y >= camera.getFirstRow() && y <= camera.getLastRow()) {
+            int cellSize = config.getCellSize();
+            paintImmediately((x - camera.getFirstColumn()) * cellSize,
+                    (y - camera.getFirstRow()) * cellSize, cellSize, cellSize);
+        }
     }
 
     @Override
     public void onGameOver(int finalScore) {
+        tracking = false;
         repaint();
     }
 
     @Override
     public void onScoreChanged(int newScore) {
-        repaint();
+        if (!incremental) {
+            repaint();
+        }
     }
 }
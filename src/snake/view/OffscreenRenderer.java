@@ -0,0 +1,86 @@
+package snake.view;
+
+import snake.config.GameConfig;
+import snake.model.snapshot.GameSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Dibuja fotos del juego en imágenes en memoria, sin pantalla ni componentes Swing.
+ *
+ * Produce la misma imagen que un repintado completo de GamePanel: el mismo fondo,
+ * el mismo atlas de sprites, las mismas celdas visibles según una {@link Camera} que
+ * sigue a la cabeza y los mismos mensajes superpuestos. Funciona con
+ * {@code java.awt.headless=true}, así que sirve para exportar partidas en servidores.
+ *
+ * Una instancia no es segura para varios hilos: la cámara avanza con cada foto, por
+ * lo que las fotos de una partida deben dibujarse en orden desde un único hilo.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class OffscreenRenderer {
+    private final GameConfig config;
+    private final Camera camera;
+    private final BufferedImage background;
+    private final SpriteAtlas atlas;
+
+    /**
+     * Crea un renderizador del tamaño de la vista configurada.
+     */
+    public OffscreenRenderer() {
+        this.config = GameConfig.getInstance();
+        this.camera = new Camera(config.getViewportWidth(), config.getViewportHeight(),
+                config.getGridWidth(), config.getGridHeight());
+        this.background = BoardPainter.renderBackground(null, getWidth(), getHeight(),
+                config.getCellSize(), camera.getViewWidth(), camera.getViewHeight());
+        this.atlas = new SpriteAtlas(config.getCellSize(), null);
+    }
+
+    /**
+     * Crea una imagen RGB del tamaño de los cuadros, para reutilizarla entre cuadros.
+     *
+     * @return una imagen nueva
+     */
+    public BufferedImage createImage() {
+        return new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Dibuja una foto sobre una imagen, reemplazando todo su contenido.
+     *
+     * @param snapshot la foto a dibujar; debe estar retenida durante la llamada
+     * @param target la imagen destino, del tamaño de {@link #createImage()}
+     */
+    public void render(GameSnapshot snapshot, BufferedImage target) {
+        camera.track(snapshot);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(background, 0, 0, null);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            BoardPainter.drawCells(g, atlas, snapshot, camera, null);
+            BoardPainter.drawOverlay(g, snapshot.getState(), snapshot.getScore(), getWidth(), getHeight());
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Obtiene el ancho de los cuadros en píxeles.
+     *
+     * @return ancho en píxeles
+     */
+    public int getWidth() {
+        return config.getPanelWidth();
+    }
+
+    /**
+     * Obtiene la altura de los cuadros en píxeles.
+     *
+     * @return altura en píxeles
+     */
+    public int getHeight() {
+        return config.getPanelHeight();
+    }
+}
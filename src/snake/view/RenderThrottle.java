@@ -0,0 +1,63 @@
+package snake.view;
+
+import snake.model.GameState;
+
+/**
+ * Decide qué ticks llegan a dibujarse cuando el modelo avanza más rápido de lo que
+ * tiene sentido pintar, por ejemplo en modo turbo.
+ *
+ * Un tick se dibuja si pasaron al menos {@code tickStride} ticks desde el último
+ * cuadro y al menos el intervalo mínimo que marca la tasa máxima de cuadros. Los demás
+ * se descartan sin dibujar nada, así que la interfaz sigue respondiendo aunque el
+ * modelo avance a miles de ticks por segundo. A velocidades normales (un tick cada
+ * 80 ms o más) nunca descarta nada con la configuración por defecto.
+ *
+ * Las notificaciones con la partida detenida (pausa, fin, reinicio) se dibujan
+ * siempre, para que lo último que se ve corresponda al estado final.
+ *
+ * Solo se usa desde un hilo: el EDT, donde las vistas reciben sus eventos.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class RenderThrottle {
+    private final int tickStride;
+    private final long minFrameIntervalNanos;
+    private int ticksSinceFrame;
+    private long lastFrameNanos;
+    private boolean drawn;
+
+    /**
+     * Crea el limitador.
+     *
+     * @param tickStride dibujar como mucho un tick de cada tantos, 1 o más
+     * @param maxFps cuadros por segundo como máximo; 0 para no limitar
+     */
+    public RenderThrottle(int tickStride, int maxFps) {
+        if (tickStride < 1 || maxFps < 0) {
+            throw new IllegalArgumentException("Parámetros no válidos: " + tickStride + ", " + maxFps);
+        }
+        this.tickStride = tickStride;
+        this.minFrameIntervalNanos = maxFps > 0 ? 1_000_000_000L / maxFps : 0L;
+    }
+
+    /**
+     * Indica si el tick recién notificado debe dibujarse, y si es así lo cuenta como
+     * último cuadro.
+     *
+     * @param state el estado de la partida tras el tick
+     * @return true si hay que dibujarlo
+     */
+    public boolean allowFrame(GameState state) {
+        long now = System.nanoTime();
+        if (state == GameState.RUNNING && drawn) {
+            if (++ticksSinceFrame < tickStride || now - lastFrameNanos < minFrameIntervalNanos) {
+                return false;
+            }
+        }
+        drawn = true;
+        ticksSinceFrame = 0;
+        lastFrameNanos = now;
+        return true;
+    }
+}
@@ -1,7 +1,11 @@
 package snake.view;
 
+import snake.config.GameConfig;
 import snake.model.GameModel;
+import snake.model.GameState;
 import snake.model.observer.GameObserver;
+import snake.model.snapshot.GameSnapshot;
+import snake.model.snapshot.SnapshotPublisher;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,12 +17,19 @@ import java.awt.*;
  * ScorePanel observa el GameModel y actualiza la visualización de puntuación
  * cada vez que el estado del juego cambia.
  * 
+ * Se registra con el EDT como Executor, así que las notificaciones llegan ya en el
+ * EDT, reunidas por tick. La puntuación se lee de la última GameSnapshot y las
+ * etiquetas solo se actualizan cuando el texto cambia. En modo turbo un
+ * RenderThrottle limita las actualizaciones a la tasa de cuadros de la vista.
+ * 
  * @version 1.0
  */
 public class ScorePanel extends JPanel implements GameObserver {
     private final GameModel model;
+    private final SnapshotPublisher snapshots;
     private final JLabel scoreLabel;
     private final JLabel speedLabel;
+    private final RenderThrottle throttle;
 
     /**
      * Crea un nuevo ScorePanel.
@@ -27,6 +38,9 @@ public class ScorePanel extends JPanel implements GameObserver {
      */
     public ScorePanel(GameModel model) {
         this.model = model;
+        this.snapshots = model.getSnapshots();
+        GameConfig config = GameConfig.getInstance();
+        this.throttle = new RenderThrottle(config.getRenderTickStride(), config.getTargetFps());
         
         setBackground(new Color(40, 40, 40));
         setLayout(new FlowLayout(FlowLayout.CENTER, 30, 10));
@@ -44,26 +58,42 @@ public class ScorePanel extends JPanel implements GameObserver {
         add(scoreLabel);
         add(speedLabel);
         
-        model.registerObserver(this);
+        model.registerViewObserver(this, SwingUtilities::invokeLater);
     }
 
     @Override
     public void onGameUpdated() {
-        updateLabels();
+        GameSnapshot snapshot = snapshots.acquire();
+        try {
+            if (snapshot.getState() == GameState.GAME_OVER || !throttle.allowFrame(snapshot.getState())) {
+                return;
+            }
+            setText(scoreLabel, "Puntuación: " + snapshot.getScore());
+        } finally {
+            snapshot.release();
+        }
+        // La estrategia es inmutable y el modelo la publica en un campo volátil.
+        setText(speedLabel, "Velocidad: " + model.getMovementStrategy().getName());
     }
 
     @Override
     public void onGameOver(int finalScore) {
-        scoreLabel.setText("Puntuación Final: " + finalScore);
+        setText(scoreLabel, "Puntuación Final: " + finalScore);
     }
 
     @Override
     public void onScoreChanged(int newScore) {
-        scoreLabel.setText("Puntuación: " + newScore);
+        // Tras cada cambio de puntuación llega onGameUpdated en el mismo evento, que la
+        // muestra si el cuadro no se descarta.
     }
     
-    private void updateLabels() {
-        scoreLabel.setText("Puntuación: " + model.getScore());
-        speedLabel.setText("Velocidad: " + model.getMovementStrategy().getName());
+    /**
+     * Cambia el texto de una etiqueta solo si es distinto, para no provocar un nuevo
+     * cálculo del diseño en cada tick.
+     */
+    private static void setText(JLabel label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
     }
 }
@@ -0,0 +1,221 @@
+package snake.view;
+
+import snake.model.Direction;
+import snake.model.factory.Food;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Atlas de sprites pre-renderizados para un tamaño de celda.
+ *
+ * PATRÓN: Flyweight
+ * La cabeza en cada Direction, el segmento del cuerpo y los dos tipos de comida se
+ * dibujan una sola vez, con antialiasing, en una única imagen translúcida compatible
+ * con la pantalla. Cada celda del tablero comparte esos sprites y se pinta con un
+ * simple copiado de imagen, que Java2D puede acelerar, en lugar de rasterizar
+ * rectángulos redondeados, óvalos y texto en cada cuadro.
+ *
+ * @author Snake Game
+ * @version 1.0
+ */
+public class SpriteAtlas {
+    private static final Color SNAKE_HEAD_COLOR = new Color(76, 175, 80);
+    private static final Color SNAKE_BODY_COLOR = new Color(129, 199, 132);
+    private static final Color NORMAL_FOOD_COLOR = new Color(244, 67, 54);
+    private static final Color BONUS_FOOD_COLOR = new Color(255, 193, 7);
+    private static final Color EYE_COLOR = Color.WHITE;
+    private static final Font BONUS_FONT = new Font("Arial", Font.BOLD, 12);
+
+    /**
+     * Sprites disponibles, en el orden en que aparecen en el atlas.
+     */
+    public enum Sprite {
+        HEAD_UP,
+        HEAD_DOWN,
+        HEAD_LEFT,
+        HEAD_RIGHT,
+        BODY,
+        NORMAL_FOOD,
+        BONUS_FOOD
+    }
+
+    private static final Sprite[] HEADS = {
+        Sprite.HEAD_UP, Sprite.HEAD_DOWN, Sprite.HEAD_LEFT, Sprite.HEAD_RIGHT
+    };
+
+    private final int cellSize;
+    private final BufferedImage image;
+    private int bonusPoints = -1;
+
+    /**
+     * Crea el atlas y renderiza todos los sprites.
+     *
+     * @param cellSize tamaño de celda en píxeles
+     * @param gc configuración de la pantalla destino, o null para una imagen ARGB en memoria
+     */
+    public SpriteAtlas(int cellSize, GraphicsConfiguration gc) {
+        this.cellSize = cellSize;
+        int width = cellSize * Sprite.values().length;
+        this.image = gc != null
+                ? gc.createCompatibleImage(width, cellSize, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, cellSize, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            for (Direction direction : Direction.values()) {
+                renderHead(g, origin(head(direction)), direction);
+            }
+            renderBody(g, origin(Sprite.BODY));
+            renderFood(g, origin(Sprite.NORMAL_FOOD), NORMAL_FOOD_COLOR);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Obtiene el sprite de la cabeza que mira en una dirección.
+     *
+     * @param direction la dirección de la serpiente
+     * @return el sprite de la cabeza
+     */
+    public static Sprite head(Direction direction) {
+        return HEADS[direction.ordinal()];
+    }
+
+    /**
+     * Copia un sprite en una celda del tablero.
+     *
+     * @param g el contexto gráfico destino
+     * @param sprite el sprite a dibujar
+     * @param cellX columna de la celda
+     * @param cellY fila de la celda
+     */
+    public void draw(Graphics g, Sprite sprite, int cellX, int cellY) {
+        drawAt(g, sprite, cellX * cellSize, cellY * cellSize);
+    }
+
+    /**
+     * Copia un sprite en una posición en píxeles, que no tiene por qué estar alineada
+     * con la cuadrícula (por ejemplo, al interpolar el movimiento).
+     *
+     * @param g el contexto gráfico destino
+     * @param sprite el sprite a dibujar
+     * @param x coordenada X en píxeles
+     * @param y coordenada Y en píxeles
+     */
+    public void drawAt(Graphics g, Sprite sprite, int x, int y) {
+        int sx = origin(sprite);
+        g.drawImage(image, x, y, x + cellSize, y + cellSize, sx, 0, sx + cellSize, cellSize, null);
+    }
+
+    /**
+     * Copia el sprite de una comida en su celda. El sprite de comida bonus lleva la
+     * etiqueta con sus puntos; si los puntos cambian, el sprite se vuelve a renderizar.
+     *
+     * @param g el contexto gráfico destino
+     * @param food la comida a dibujar
+     */
+    public void drawFood(Graphics g, Food food) {
+        drawFoodAt(g, food, food.getPosition().getX() * cellSize, food.getPosition().getY() * cellSize);
+    }
+
+    /**
+     * Copia el sprite de una comida en una posición en píxeles, por ejemplo relativa
+     * a la cámara.
+     *
+     * @param g el contexto gráfico destino
+     * @param food la comida a dibujar
+     * @param x coordenada X en píxeles
+     * @param y coordenada Y en píxeles
+     */
+    public void drawFoodAt(Graphics g, Food food, int x, int y) {
+        Sprite sprite = Sprite.NORMAL_FOOD;
+        if (food.getType() == Food.FoodType.BONUS) {
+            if (food.getPoints() != bonusPoints) {
+                renderBonusFood(food.getPoints());
+            }
+            sprite = Sprite.BONUS_FOOD;
+        }
+        drawAt(g, sprite, x, y);
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    private int origin(Sprite sprite) {
+        return sprite.ordinal() * cellSize;
+    }
+
+    private void renderHead(Graphics2D g, int x, Direction direction) {
+        int padding = 1;
+        g.setColor(SNAKE_HEAD_COLOR);
+        g.fillRoundRect(x + padding, padding, cellSize - padding * 2, cellSize - padding * 2, 8, 8);
+
+        int eyeSize = 4;
+        int eyeOffset = 5;
+        int centerX = x + cellSize / 2;
+        int centerY = cellSize / 2;
+        g.setColor(EYE_COLOR);
+        switch (direction) {
+            case UP:
+                g.fillOval(centerX - eyeOffset - eyeSize / 2, 5, eyeSize, eyeSize);
+                g.fillOval(centerX + eyeOffset - eyeSize / 2, 5, eyeSize, eyeSize);
+                break;
+            case DOWN:
+                g.fillOval(centerX - eyeOffset - eyeSize / 2, cellSize - 9, eyeSize, eyeSize);
+                g.fillOval(centerX + eyeOffset - eyeSize / 2, cellSize - 9, eyeSize, eyeSize);
+                break;
+            case LEFT:
+                g.fillOval(x + 5, centerY - eyeOffset - eyeSize / 2, eyeSize, eyeSize);
+                g.fillOval(x + 5, centerY + eyeOffset - eyeSize / 2, eyeSize, eyeSize);
+                break;
+            case RIGHT:
+                g.fillOval(x + cellSize - 9, centerY - eyeOffset - eyeSize / 2, eyeSize, eyeSize);
+                g.fillOval(x + cellSize - 9, centerY + eyeOffset - eyeSize / 2, eyeSize, eyeSize);
+                break;
+        }
+    }
+
+    private void renderBody(Graphics2D g, int x) {
+        int padding = 1;
+        g.setColor(SNAKE_BODY_COLOR);
+        g.fillRoundRect(x + padding, padding, cellSize - padding * 2, cellSize - padding * 2, 6, 6);
+    }
+
+    private void renderFood(Graphics2D g, int x, Color color) {
+        int padding = 2;
+        g.setColor(color);
+        g.fillOval(x + padding, padding, cellSize - padding * 2, cellSize - padding * 2);
+    }
+
+    /**
+     * Renderiza el sprite de comida bonus con la etiqueta "+puntos". La etiqueta se
+     * recorta al borde de la celda.
+     */
+    private void renderBonusFood(int points) {
+        int x = origin(Sprite.BONUS_FOOD);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(x, 0, cellSize, cellSize);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.clipRect(x, 0, cellSize, cellSize);
+            renderFood(g, x, BONUS_FOOD_COLOR);
+
+            g.setColor(Color.WHITE);
+            g.setFont(BONUS_FONT);
+            String label = "+" + points;
+            FontMetrics fm = g.getFontMetrics();
+            int textX = x + (cellSize - fm.stringWidth(label)) / 2;
+            int textY = (cellSize + fm.getAscent()) / 2 - 2;
+            g.drawString(label, textX, textY);
+        } finally {
+            g.dispose();
+        }
+        bonusPoints = points;
+    }
+}